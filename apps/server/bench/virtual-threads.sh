@@ -0,0 +1,126 @@
+#!/bin/bash
+
+# 플랫폼 스레드 / 가상 스레드 모드 처리량 비교
+# 사용법: ./apps/server/bench/virtual-threads.sh [동시 연결 수] [측정 시간]
+#
+# 같은 JAR를 VIRTUAL_THREADS_ENABLED=false/true로 차례로 띄우고 hey로 부하를 준다.
+# - verify-token: 사용자 캐시를 끄고(USER_CACHE_ENABLED=false) 요청마다 DB를 조회 (JDBC 대기 위주)
+# - login: BCrypt 검증 (고정 크기 해싱 풀에서 실행, CPU 위주)
+# H2 인메모리 DB는 대기 시간이 거의 없으므로 의미 있는 비교는 PostgreSQL(PROFILE=prod, DB_* 환경 변수)로 한다.
+# -Djdk.tracePinnedThreads=short로 캐리어 스레드 고정이 발생하면 서버 로그(bench/out/*.log)에 남는다.
+#
+# 필요: hey (https://github.com/rakyll/hey), curl, jq
+
+set -e
+
+CONCURRENCY=${1:-1000}
+DURATION=${2:-30s}
+PROFILE=${PROFILE:-dev}
+PORT=${PORT:-18080}
+BASE_URL="http://localhost:${PORT}/spring"
+
+SCRIPT_DIR=$(cd "$(dirname "$0")" && pwd)
+ROOT_DIR=$(cd "${SCRIPT_DIR}/../../.." && pwd)
+OUT_DIR="${SCRIPT_DIR}/out"
+JAR="${ROOT_DIR}/apps/server/build/libs/plate-server.jar"
+
+# 색상 정의
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+for tool in hey curl jq; do
+    command -v "$tool" > /dev/null || { echo "$tool 이(가) 필요합니다"; exit 1; }
+done
+
+mkdir -p "$OUT_DIR"
+
+echo -e "${YELLOW}JAR 빌드${NC}"
+(cd "$ROOT_DIR" && ./gradlew :apps:server:bootJar -x test -q)
+
+SERVER_PID=""
+stop_server() {
+    if [ -n "$SERVER_PID" ]; then
+        kill "$SERVER_PID" 2> /dev/null || true
+        wait "$SERVER_PID" 2> /dev/null || true
+        SERVER_PID=""
+    fi
+}
+trap stop_server EXIT
+
+start_server() {
+    local mode=$1
+    local virtual=$2
+
+    SPRING_PROFILES_ACTIVE=$PROFILE \
+    SERVER_PORT=$PORT \
+    VIRTUAL_THREADS_ENABLED=$virtual \
+    USER_CACHE_ENABLED=false \
+    LOGIN_THROTTLE_ENABLED=false \
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+        --logging.level.root=WARN \
+        --spring.jpa.show-sql=false \
+        > "${OUT_DIR}/${mode}.log" 2>&1 &
+    SERVER_PID=$!
+
+    for _ in $(seq 1 60); do
+        if curl -sf "${BASE_URL}/actuator/health" > /dev/null; then
+            return
+        fi
+        sleep 1
+    done
+    echo "서버가 시작되지 않았습니다 (${OUT_DIR}/${mode}.log 참고)"
+    exit 1
+}
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+    local email="bench-$(date +%s%N)@example.com"
+    local credentials="{\"email\":\"${email}\",\"password\":\"bench-password-1\"}"
+
+    echo -e "${YELLOW}[${mode}] 서버 시작${NC}"
+    start_server "$mode" "$virtual"
+
+    curl -sf -X POST "${BASE_URL}/v1/auth/sign-up" -H 'Content-Type: application/json' \
+        -d "{\"email\":\"${email}\",\"password\":\"bench-password-1\",\"name\":\"bench\",\"phone\":\"010-$(date +%N | cut -c1-8)\"}" > /dev/null
+    local token
+    token=$(curl -sf -X POST "${BASE_URL}/v1/auth/login" -H 'Content-Type: application/json' -d "$credentials" \
+        | jq -r '.data.access_token')
+
+    # 워밍업
+    hey -z 5s -c 50 -H "Authorization: Bearer ${token}" "${BASE_URL}/v1/auth/verify-token" > /dev/null
+
+    echo -e "${YELLOW}[${mode}] verify-token (동시 ${CONCURRENCY}, ${DURATION})${NC}"
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" \
+        "${BASE_URL}/v1/auth/verify-token" > "${OUT_DIR}/${mode}-verify-token.txt"
+
+    echo -e "${YELLOW}[${mode}] login (동시 ${CONCURRENCY}, ${DURATION})${NC}"
+    hey -z "$DURATION" -c "$CONCURRENCY" -m POST -T 'application/json' -d "$credentials" \
+        "${BASE_URL}/v1/auth/login" > "${OUT_DIR}/${mode}-login.txt"
+
+    stop_server
+}
+
+summary() {
+    local file=$1
+    local rps p99 errors
+    rps=$(grep 'Requests/sec' "$file" | awk '{print $2}')
+    p99=$(grep '99% in' "$file" | awk '{print $3}')
+    errors=$(awk '/Status code distribution/,0' "$file" | grep -v '\[200\]' | grep -c 'responses' || true)
+    printf "%-10s %-14s %12s %12s %8s\n" "$2" "$3" "$rps" "$p99" "$errors"
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo -e "${GREEN}결과 (상세: ${OUT_DIR})${NC}"
+printf "%-10s %-14s %12s %12s %8s\n" "모드" "엔드포인트" "req/s" "p99(s)" "비200"
+for mode in platform virtual; do
+    summary "${OUT_DIR}/${mode}-verify-token.txt" "$mode" "verify-token"
+    summary "${OUT_DIR}/${mode}-login.txt" "$mode" "login"
+done
+
+if grep -q 'pinned' "${OUT_DIR}/virtual.log"; then
+    echo -e "${YELLOW}가상 스레드 모드에서 캐리어 스레드 고정이 감지되었습니다 (${OUT_DIR}/virtual.log)${NC}"
+fi
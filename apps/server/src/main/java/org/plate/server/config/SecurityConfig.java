@@ -1,19 +1,32 @@
 package org.plate.server.config;
 
 import lombok.RequiredArgsConstructor;
+import org.plate.common.enums.Permission;
+import org.plate.security.authorization.PermissionAuthorizationManager;
 import org.plate.security.config.JwtProperties;
 import org.plate.security.jwt.JwtAuthenticationFilter;
+import org.plate.security.jwt.JwtKeyRing;
 import org.plate.security.jwt.JwtProvider;
 import org.plate.security.jwt.TokenService;
+import org.plate.security.jwt.VerifiedTokenCache;
+import org.plate.security.refresh.RefreshTokenFamilyService;
+import org.plate.security.revocation.TokenRevocationService;
+import org.plate.security.web.PublicEndpointMatcher;
+import org.plate.service.password.PasswordEncoders;
+import org.plate.service.password.PasswordHashingProperties;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -42,6 +55,9 @@ public class SecurityConfig {
             "/v1/auth/sign-up",
             "/v1/auth/token/refresh",
 
+            // 토큰 검증용 공개키
+            "/.well-known/jwks.json",
+
             // Swagger/OpenAPI
             "/v3/api-docs/**",
             "/api-docs/**",
@@ -52,14 +68,16 @@ public class SecurityConfig {
             // H2 Console (개발용)
             "/h2-console/**",
 
-            // 헬스 체크 (Actuator 전체 허용)
-            "/actuator/**"
+            // 헬스 체크 (나머지 Actuator 엔드포인트는 ACTUATOR_READ 권한 필요)
+            "/actuator/health/**",
+            "/actuator/info"
     };
 
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
-            JwtAuthenticationFilter jwtAuthenticationFilter
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            PublicEndpointMatcher publicEndpointMatcher
     ) throws Exception {
         return http
                 // CORS 설정
@@ -78,7 +96,8 @@ public class SecurityConfig {
 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(publicEndpointMatcher).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAuthority(Permission.ACTUATOR_READ.name())
                         .anyRequest().authenticated()
                 )
 
@@ -94,9 +113,22 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * 공개 경로 매처 (permitAll 규칙과 JWT 필터 생략에 공유)
+     */
     @Bean
-    public JwtProvider jwtProvider(JwtProperties jwtProperties) {
-        return new JwtProvider(jwtProperties);
+    public PublicEndpointMatcher publicEndpointMatcher() {
+        return new PublicEndpointMatcher(PUBLIC_ENDPOINTS);
+    }
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(JwtProperties jwtProperties) {
+        return new JwtKeyRing(jwtProperties);
+    }
+
+    @Bean
+    public JwtProvider jwtProvider(JwtProperties jwtProperties, JwtKeyRing jwtKeyRing) {
+        return new JwtProvider(jwtProperties, jwtKeyRing);
     }
 
     @Bean
@@ -105,12 +137,57 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtProvider jwtProvider) {
-        return new JwtAuthenticationFilter(jwtProvider);
+    public VerifiedTokenCache verifiedTokenCache(
+            JwtProvider jwtProvider,
+            JwtProperties jwtProperties,
+            JwtKeyRing jwtKeyRing
+    ) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtProvider, jwtProperties);
+        // 키가 교체되면 폐기된 키로 검증된 항목이 남지 않도록 비움
+        jwtKeyRing.addReloadListener(verifiedTokenCache::invalidateAll);
+        return verifiedTokenCache;
+    }
+
+    @Bean
+    public TokenRevocationService tokenRevocationService(
+            StringRedisTemplate stringRedisTemplate,
+            JwtProperties jwtProperties
+    ) {
+        return new TokenRevocationService(stringRedisTemplate, jwtProperties);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public RefreshTokenFamilyService refreshTokenFamilyService(
+            StringRedisTemplate stringRedisTemplate,
+            JwtProvider jwtProvider,
+            JwtProperties jwtProperties
+    ) {
+        return new RefreshTokenFamilyService(stringRedisTemplate, jwtProvider, jwtProperties);
+    }
+
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter(
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationService tokenRevocationService,
+            PublicEndpointMatcher publicEndpointMatcher
+    ) {
+        return new JwtAuthenticationFilter(verifiedTokenCache, tokenRevocationService, publicEndpointMatcher);
+    }
+
+    /**
+     * {@code @RequirePermission} 메서드 보안 (권한 비트 마스크 비교)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requirePermissionAuthorizationAdvisor() {
+        return PermissionAuthorizationManager.interceptor();
+    }
+
+    /**
+     * 공용 PasswordEncoder (기동 시 BCrypt cost 보정)
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return PasswordEncoders.create(passwordHashingProperties);
     }
 }
@@ -5,7 +5,6 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -20,6 +19,7 @@ import org.plate.dto.auth.request.RefreshTokenRequest;
 import org.plate.dto.auth.request.SignUpRequest;
 import org.plate.dto.auth.response.TokenResponse;
 import org.plate.dto.auth.response.UserResponse;
+import org.plate.security.jwt.TokenExtractor;
 import org.plate.security.jwt.TokenService;
 import org.plate.security.userdetails.CurrentUser;
 import org.plate.security.userdetails.UserPrincipal;
@@ -28,8 +28,6 @@ import org.plate.vo.token.TokenPair;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Arrays;
-
 /**
  * 인증 컨트롤러
  * prj-core의 AuthController와 동일한 구조
@@ -68,13 +66,18 @@ public class AuthController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "401",
                     description = "인증 실패 (이메일 또는 비밀번호 불일치)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "로그인 시도 횟수 초과 (Retry-After 헤더 참고)"
             )
     })
     public ApiResponse<TokenResponse> login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
-        TokenResponse tokenResponse = authFacade.login(request);
+        TokenResponse tokenResponse = authFacade.login(request, httpRequest.getRemoteAddr());
 
         // 쿠키 설정
         tokenService.setTokenCookies(
@@ -145,7 +148,7 @@ public class AuthController {
             HttpServletResponse response
     ) {
         // 1. 쿠키에서 Refresh Token 추출 (우선순위 높음)
-        String refreshToken = extractRefreshTokenFromCookie(httpRequest);
+        String refreshToken = TokenExtractor.extractCookie(httpRequest, AuthConstants.REFRESH_TOKEN_COOKIE);
 
         // 2. 쿠키에 없으면 요청 바디에서 추출
         if (!StringUtils.hasText(refreshToken) && request != null) {
@@ -199,7 +202,7 @@ public class AuthController {
     @PostMapping("/logout")
     @Operation(
             summary = "로그아웃",
-            description = "현재 사용자를 로그아웃합니다. 토큰 쿠키가 삭제됩니다."
+            description = "현재 사용자를 로그아웃합니다. 사용 중인 토큰이 폐기되고 토큰 쿠키가 삭제됩니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -209,27 +212,16 @@ public class AuthController {
     })
     public ApiResponse<Boolean> logout(
             @CurrentUser UserPrincipal userPrincipal,
+            HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
-        authFacade.logout(userPrincipal);
+        authFacade.logout(
+                userPrincipal,
+                TokenExtractor.extractAccessToken(httpRequest),
+                TokenExtractor.extractCookie(httpRequest, AuthConstants.REFRESH_TOKEN_COOKIE)
+        );
         tokenService.clearTokenCookies(response);
 
         return ApiResponse.success(true, "로그아웃 성공");
     }
-
-    /**
-     * 쿠키에서 Refresh Token 추출
-     */
-    private String extractRefreshTokenFromCookie(HttpServletRequest request) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null) {
-            return null;
-        }
-
-        return Arrays.stream(cookies)
-                .filter(cookie -> AuthConstants.REFRESH_TOKEN_COOKIE.equals(cookie.getName()))
-                .map(Cookie::getValue)
-                .findFirst()
-                .orElse(null);
-    }
 }
@@ -0,0 +1,71 @@
+package org.plate.server.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.jwt.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * JWKS 컨트롤러
+ * 다른 서비스가 /v1/auth/verify-token 호출 없이 토큰을 로컬에서 검증할 수 있도록 공개키를 노출
+ *
+ * 엔드포인트:
+ * - GET /.well-known/jwks.json : 공개키 목록 (ETag / Cache-Control 적용)
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "토큰 검증용 공개키 API")
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtProperties jwtProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 키 묶음 버전별로 직렬화한 응답 (키가 교체될 때만 다시 만듦)
+     */
+    private volatile CachedJwks cachedJwks;
+
+    /**
+     * 공개키 목록
+     * If-None-Match가 ETag와 같으면 304를 반환
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "JWKS",
+            description = "Access Token 서명 검증에 사용하는 공개키 목록입니다. HMAC 모드에서는 빈 목록을 반환합니다."
+    )
+    public ResponseEntity<byte[]> jwks() throws JsonProcessingException {
+        CachedJwks jwks = currentJwks();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtProperties.getJwksMaxAge()).cachePublic())
+                .eTag(jwks.etag())
+                .body(jwks.body());
+    }
+
+    private CachedJwks currentJwks() throws JsonProcessingException {
+        long version = jwtKeyRing.version();
+        CachedJwks jwks = cachedJwks;
+        if (jwks == null || jwks.version() != version) {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", jwtKeyRing.publicJwks()));
+            jwks = new CachedJwks(version, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            cachedJwks = jwks;
+        }
+        return jwks;
+    }
+
+    private record CachedJwks(long version, byte[] body, String etag) {
+    }
+}
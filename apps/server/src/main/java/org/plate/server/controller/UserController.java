@@ -0,0 +1,111 @@
+package org.plate.server.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.common.enums.Permission;
+import org.plate.common.response.ApiResponse;
+import org.plate.common.response.CursorPage;
+import org.plate.dto.user.response.UserImportResponse;
+import org.plate.dto.user.response.UserListItemResponse;
+import org.plate.security.authorization.RequirePermission;
+import org.plate.security.userdetails.CurrentUser;
+import org.plate.security.userdetails.UserPrincipal;
+import org.plate.service.user.UserDirectoryService;
+import org.plate.service.user.bulk.UserImportFormat;
+import org.plate.service.user.bulk.UserImportService;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 사용자 컨트롤러
+ *
+ * 엔드포인트:
+ * - GET  /v1/users        : 사용자 목록 (커서 페이지네이션)
+ * - POST /v1/users/import : 사용자 대량 등록 (CSV, NDJSON)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/users")
+@RequiredArgsConstructor
+@Tag(name = "사용자", description = "사용자 관리 API")
+public class UserController {
+
+    private final UserDirectoryService userDirectoryService;
+    private final UserImportService userImportService;
+
+    /**
+     * 사용자 목록
+     */
+    @GetMapping
+    @RequirePermission(Permission.USER_LIST)
+    @Operation(
+            summary = "사용자 목록",
+            description = "활성 사용자를 가입 순서대로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "USER_LIST 권한 없음"
+            )
+    })
+    public ApiResponse<CursorPage<UserListItemResponse>> findUsers(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.success(userDirectoryService.findPage(cursor, size));
+    }
+
+    /**
+     * 사용자 대량 등록
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @RequirePermission(Permission.USER_IMPORT)
+    @Operation(
+            summary = "사용자 대량 등록",
+            description = "CSV(text/csv, 헤더: email,password,name,phone) 또는 NDJSON(application/x-ndjson) 본문을 " +
+                    "스트리밍으로 읽어 사용자를 등록합니다. 실패한 행은 줄 번호와 함께 반환됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "등록 완료 (행별 오류 포함)",
+                    content = @Content(schema = @Schema(implementation = UserImportResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "USER_IMPORT 권한 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "이미 진행 중인 대량 등록이 있음"
+            )
+    })
+    public ApiResponse<UserImportResponse> importUsers(
+            @CurrentUser UserPrincipal userPrincipal,
+            HttpServletRequest httpRequest
+    ) throws IOException {
+        UserImportFormat format = UserImportFormat.fromContentType(httpRequest.getContentType());
+        log.info("사용자 대량 등록 시작 - 요청자: {}, 형식: {}", userPrincipal.getEmail(), format);
+
+        UserImportResponse result = userImportService.importUsers(httpRequest.getInputStream(), format);
+        return ApiResponse.success(result, "사용자 대량 등록 완료");
+    }
+}
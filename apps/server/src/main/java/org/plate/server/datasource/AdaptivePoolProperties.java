@@ -0,0 +1,56 @@
+package org.plate.server.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 커넥션 풀 자동 크기 조절 설정
+ * 획득 대기 시간과 커넥션 사용 시간(DB 응답 시간)을 보고 범위 안에서 maximum-pool-size를 조정한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.pool.adaptive")
+public class AdaptivePoolProperties {
+
+    /**
+     * 자동 조절 사용 여부 (끄면 설정된 크기 고정)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 측정 주기
+     */
+    private Duration interval = Duration.ofSeconds(30);
+
+    private int minSize = 5;
+
+    private int maxSize = 30;
+
+    /**
+     * 한 번에 늘리거나 줄이는 커넥션 수
+     */
+    private int step = 2;
+
+    /**
+     * 평균 획득 대기 시간이 이 값을 넘으면 확장
+     */
+    private Duration targetAcquireTime = Duration.ofMillis(10);
+
+    /**
+     * 평균 사용 시간이 이 값을 넘으면 DB 자체가 느린 것으로 보고 확장하지 않음
+     */
+    private Duration maxUsageTime = Duration.ofMillis(200);
+
+    /**
+     * 최대 활성 커넥션 비율이 이 값 미만인 주기가 이어지면 축소
+     */
+    private double shrinkUtilization = 0.5;
+
+    /**
+     * 축소 전 연속 유휴 주기 수
+     */
+    private int shrinkAfterIntervals = 4;
+}
@@ -0,0 +1,125 @@
+package org.plate.server.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hikari 풀 크기 자동 조절 (datasource.pool.adaptive.enabled=true일 때만)
+ *
+ * 주기마다 풀별 hikaricp.connections.acquire/usage 타이머의 구간 평균을 계산한다.
+ * - 획득 대기가 목표를 넘고 대기 스레드가 있으며 DB 응답이 정상이면 step만큼 확장
+ * - 활성 커넥션이 적은 주기가 이어지면 step만큼 축소 (남는 커넥션은 idle-timeout으로 정리)
+ * DB 응답 자체가 느릴 때는 커넥션을 늘려도 부하만 커지므로 확장하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource.pool.adaptive", name = "enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private final ObjectProvider<HikariDataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+    private final AdaptivePoolProperties properties;
+    private final Map<String, PoolWindow> windows = new ConcurrentHashMap<>();
+
+    public AdaptivePoolSizer(
+            ObjectProvider<HikariDataSource> dataSources,
+            MeterRegistry meterRegistry,
+            AdaptivePoolProperties properties
+    ) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Scheduled(
+            initialDelayString = "${datasource.pool.adaptive.interval:PT30S}",
+            fixedDelayString = "${datasource.pool.adaptive.interval:PT30S}"
+    )
+    public void adjust() {
+        dataSources.orderedStream().forEach(this::adjust);
+    }
+
+    private void adjust(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return; // 아직 시작되지 않은 풀
+        }
+        String poolName = dataSource.getPoolName();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName).timer();
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", poolName).timer();
+        if (acquire == null || usage == null) {
+            return;
+        }
+
+        PoolWindow window = windows.computeIfAbsent(poolName, name -> new PoolWindow());
+        double acquireMillis = window.acquire.average(acquire);
+        double usageMillis = window.usage.average(usage);
+
+        int current = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+        int target = current;
+
+        boolean waiting = pool.getThreadsAwaitingConnection() > 0
+                || acquireMillis > properties.getTargetAcquireTime().toMillis();
+        boolean databaseHealthy = usageMillis <= properties.getMaxUsageTime().toMillis();
+
+        if (waiting && databaseHealthy) {
+            window.idleIntervals = 0;
+            target = Math.min(current + properties.getStep(), properties.getMaxSize());
+        } else if (pool.getActiveConnections() < current * properties.getShrinkUtilization()) {
+            if (++window.idleIntervals >= properties.getShrinkAfterIntervals()) {
+                window.idleIntervals = 0;
+                target = Math.max(current - properties.getStep(), properties.getMinSize());
+            }
+        } else {
+            window.idleIntervals = 0;
+        }
+
+        if (target != current) {
+            dataSource.getHikariConfigMXBean().setMaximumPoolSize(target);
+            meterRegistry.counter("datasource.pool.resize",
+                    "pool", poolName, "direction", target > current ? "grow" : "shrink").increment();
+            log.info("커넥션 풀 크기 조정 - pool: {}, {} -> {} (획득 평균 {}ms, 사용 평균 {}ms)",
+                    poolName, current, target, Math.round(acquireMillis), Math.round(usageMillis));
+        } else if (waiting && !databaseHealthy) {
+            log.debug("DB 응답 지연으로 확장 보류 - pool: {}, 사용 평균 {}ms", poolName, Math.round(usageMillis));
+        }
+    }
+
+    /**
+     * 풀별 직전 측정값 (주기 단위 구간 평균 계산용)
+     */
+    private static final class PoolWindow {
+        private final TimerDelta acquire = new TimerDelta();
+        private final TimerDelta usage = new TimerDelta();
+        private int idleIntervals;
+    }
+
+    private static final class TimerDelta {
+        private long lastCount;
+        private double lastTotalMillis;
+
+        /**
+         * 직전 측정 이후 기록된 값의 평균 (ms), 기록이 없으면 0
+         */
+        double average(Timer timer) {
+            long count = timer.count();
+            double totalMillis = timer.totalTime(TimeUnit.MILLISECONDS);
+            long deltaCount = count - lastCount;
+            double deltaMillis = totalMillis - lastTotalMillis;
+            lastCount = count;
+            lastTotalMillis = totalMillis;
+            return deltaCount > 0 ? deltaMillis / deltaCount : 0;
+        }
+    }
+}
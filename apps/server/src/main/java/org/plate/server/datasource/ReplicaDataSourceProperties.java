@@ -0,0 +1,50 @@
+package org.plate.server.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 데이터소스 설정
+ * primary는 기존 spring.datasource.* 설정을 그대로 사용한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 복제본 라우팅 사용 여부
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * 비어 있으면 URL로 추론
+     */
+    private String driverClassName;
+
+    /**
+     * 복제본 커넥션 풀 크기
+     */
+    private int maximumPoolSize = 10;
+
+    private int minimumIdle = 2;
+
+    /**
+     * 커넥션 획득 대기 시간 (초과 시 primary로 대체)
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 자기 쓰기 이후 primary에서 읽는 시간 (복제 지연보다 길게)
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
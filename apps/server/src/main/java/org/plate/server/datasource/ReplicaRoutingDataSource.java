@@ -0,0 +1,103 @@
+package org.plate.server.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.repository.routing.ReadYourWrites;
+import org.plate.security.userdetails.UserPrincipal;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 primary로 보내는 라우팅 데이터소스
+ *
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ * 최근 자기 쓰기가 있었던 사용자의 읽기와 복제본 커넥션 획득 실패는 primary로 보낸다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWrites readYourWrites;
+
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReadYourWrites readYourWrites,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryCounter = routeCounter(meterRegistry, "primary");
+        this.replicaCounter = routeCounter(meterRegistry, "replica");
+        this.readYourWritesCounter = routeCounter(meterRegistry, "read_your_writes");
+        this.fallbackCounter = routeCounter(meterRegistry, "replica_fallback");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return Route.PRIMARY;
+        }
+        if (readYourWrites.requiresPrimary(currentPrincipalId())) {
+            readYourWritesCounter.increment();
+            return Route.PRIMARY;
+        }
+        replicaCounter.increment();
+        return Route.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target != replica) {
+            return target.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException ex) {
+            // 복제본 장애/포화 시 읽기를 primary로 대체
+            fallbackCounter.increment();
+            log.warn("복제본 커넥션 획득 실패, primary 사용: {}", ex.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    private static String currentPrincipalId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                ? principal.getId()
+                : null;
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, String route) {
+        return Counter.builder("datasource.routing")
+                .description("데이터소스 라우팅 결과")
+                .tag("route", route)
+                .register(registry);
+    }
+}
@@ -4,7 +4,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.plate.common.enums.ErrorCode;
 import org.plate.common.exception.BusinessException;
+import org.plate.common.exception.TooManyRequestsException;
 import org.plate.common.response.ApiResponse;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -43,6 +46,21 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), ex.getErrorCode().getCode()));
     }
 
+    /**
+     * 요청 제한 초과 처리 (Retry-After 헤더 포함)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(
+            TooManyRequestsException ex
+    ) {
+        log.warn("TooManyRequestsException: {} - retry after {}s", ex.getErrorCode().getCode(), ex.getRetryAfterSeconds());
+
+        return ResponseEntity
+                .status(ex.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), ex.getErrorCode().getCode()));
+    }
+
     /**
      * 유효성 검사 실패 처리
      */
@@ -71,6 +89,20 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * 제약 조건 위반 처리 (서비스에서 구체적인 코드로 변환하지 않은 경우)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex
+    ) {
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ErrorCode.COMMON_DATA_CONFLICT));
+    }
+
     /**
      * 인증 실패 처리
      */
@@ -0,0 +1,173 @@
+package org.plate.server.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate 통계 Actuator 엔드포인트 (/actuator/hibernate)
+ *
+ * hibernate.generate_statistics가 켜져 있을 때 수집된 값을 보여준다.
+ * - 쿼리별 실행 횟수/시간 (총 실행 시간 순, limit개)
+ * - 엔티티별 로드/페치/쓰기 횟수
+ * - 2차 캐시 영역별 적중률 (2차 캐시 사용 시)
+ * 읽기 전용이며 ACTUATOR_READ 권한(ADMIN)이 필요하다. 통계는 기동 시점부터 누적된다.
+ */
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private static final int DEFAULT_QUERY_LIMIT = 50;
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public HibernateStatistics statistics(@Nullable Integer limit) {
+        return new HibernateStatistics(
+                statistics.isStatisticsEnabled(),
+                statistics.getStart(),
+                summary(),
+                queries(limit != null && limit > 0 ? limit : DEFAULT_QUERY_LIMIT),
+                entities(),
+                secondLevelCache());
+    }
+
+    private Summary summary() {
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount();
+        return new Summary(
+                statistics.getSessionOpenCount(),
+                statistics.getTransactionCount(),
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getEntityInsertCount(),
+                statistics.getEntityUpdateCount(),
+                statistics.getEntityDeleteCount(),
+                statistics.getCollectionLoadCount(),
+                statistics.getCollectionFetchCount(),
+                hits,
+                misses,
+                ratio(hits, misses));
+    }
+
+    private List<QueryStat> queries(int limit) {
+        return Arrays.stream(statistics.getQueries())
+                .map(query -> {
+                    QueryStatistics stat = statistics.getQueryStatistics(query);
+                    return new QueryStat(
+                            query,
+                            stat.getExecutionCount(),
+                            stat.getExecutionRowCount(),
+                            stat.getExecutionTotalTime(),
+                            stat.getExecutionAvgTime(),
+                            stat.getExecutionMaxTime(),
+                            stat.getExecutionMinTime());
+                })
+                .sorted(Comparator.comparingLong(QueryStat::totalTimeMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private Map<String, EntityStat> entities() {
+        Map<String, EntityStat> entities = new LinkedHashMap<>();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityStatistics stat = statistics.getEntityStatistics(entityName);
+            entities.put(entityName, new EntityStat(
+                    stat.getLoadCount(),
+                    stat.getFetchCount(),
+                    stat.getInsertCount(),
+                    stat.getUpdateCount(),
+                    stat.getDeleteCount()));
+        }
+        return entities;
+    }
+
+    private Map<String, CacheRegionStat> secondLevelCache() {
+        Map<String, CacheRegionStat> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stat = statistics.getDomainDataRegionStatistics(regionName);
+            if (stat != null) {
+                regions.put(regionName, new CacheRegionStat(
+                        stat.getHitCount(),
+                        stat.getMissCount(),
+                        stat.getPutCount(),
+                        ratio(stat.getHitCount(), stat.getMissCount())));
+            }
+        }
+        return regions;
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public record HibernateStatistics(
+            boolean enabled,
+            Instant since,
+            Summary summary,
+            List<QueryStat> queries,
+            Map<String, EntityStat> entities,
+            Map<String, CacheRegionStat> secondLevelCache
+    ) {
+    }
+
+    public record Summary(
+            long sessionOpenCount,
+            long transactionCount,
+            long prepareStatementCount,
+            long queryExecutionCount,
+            long queryExecutionMaxTimeMs,
+            String slowestQuery,
+            long entityLoadCount,
+            long entityFetchCount,
+            long entityInsertCount,
+            long entityUpdateCount,
+            long entityDeleteCount,
+            long collectionLoadCount,
+            long collectionFetchCount,
+            long secondLevelCacheHitCount,
+            long secondLevelCacheMissCount,
+            double secondLevelCacheHitRatio
+    ) {
+    }
+
+    public record QueryStat(
+            String query,
+            long executionCount,
+            long rowCount,
+            long totalTimeMs,
+            long averageTimeMs,
+            long maxTimeMs,
+            long minTimeMs
+    ) {
+    }
+
+    public record EntityStat(long loadCount, long fetchCount, long insertCount, long updateCount, long deleteCount) {
+    }
+
+    public record CacheRegionStat(long hitCount, long missCount, long putCount, double hitRatio) {
+    }
+}
@@ -0,0 +1,31 @@
+package org.plate.server.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 느린 쿼리 로그 설정 (persistence.slow-query.enabled=true일 때만)
+ * Hibernate가 SlowQueryConnectionProvider를 통해 커넥션을 얻도록 한다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "persistence.slow-query", name = "enabled", havingValue = "true")
+public class SlowQueryConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer slowQueryConnectionProviderCustomizer(
+            DataSource dataSource,
+            SlowQueryProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(properties, meterRegistry);
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.CONNECTION_PROVIDER,
+                new SlowQueryConnectionProvider(dataSource, slowQueryLog));
+    }
+}
@@ -0,0 +1,54 @@
+package org.plate.server.persistence;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 느린 쿼리 측정용 Hibernate ConnectionProvider
+ * 애플리케이션 DataSource(라우팅 포함)에서 커넥션을 얻어 SlowQueryLog 프록시로 감싼다
+ */
+class SlowQueryConnectionProvider implements ConnectionProvider {
+
+    private final DataSource dataSource;
+    private final SlowQueryLog slowQueryLog;
+
+    SlowQueryConnectionProvider(DataSource dataSource, SlowQueryLog slowQueryLog) {
+        this.dataSource = dataSource;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return slowQueryLog.wrap(dataSource.getConnection());
+    }
+
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this) || unwrapType.isInstance(dataSource);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isInstance(this)) {
+            return (T) this;
+        }
+        if (unwrapType.isInstance(dataSource)) {
+            return (T) dataSource;
+        }
+        throw new IllegalArgumentException("지원하지 않는 타입: " + unwrapType);
+    }
+}
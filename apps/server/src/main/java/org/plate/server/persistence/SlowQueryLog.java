@@ -0,0 +1,200 @@
+package org.plate.server.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 느린 JDBC 문장 로그
+ *
+ * 커넥션과 문장을 프록시로 감싸 execute* 호출 시간을 측정하고, 임계값을 넘으면
+ * SQL, 바인드 파라미터의 형태(값이 아닌 타입과 길이), 호출한 컨트롤러 메서드를 남긴다.
+ * 바인드 값은 개인정보가 포함될 수 있으므로 기록하지 않는다.
+ */
+@Slf4j
+class SlowQueryLog {
+
+    private static final String BACKGROUND_CALLER = "background";
+
+    private final long thresholdNanos;
+    private final int maxSqlLength;
+    private final MeterRegistry meterRegistry;
+
+    SlowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.maxSqlLength = properties.getMaxSqlLength();
+        this.meterRegistry = meterRegistry;
+    }
+
+    Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SlowQueryLog.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private void report(long elapsedNanos, String sql, Map<Integer, String> parameterShapes, int batchSize) {
+        String caller = currentController();
+        log.warn("느린 쿼리 {}ms [{}] {} - 파라미터: {}{}",
+                elapsedNanos / 1_000_000,
+                caller != null ? caller : BACKGROUND_CALLER + ":" + Thread.currentThread().getName(),
+                abbreviate(sql),
+                parameterShapes.values(),
+                batchSize > 0 ? " (배치 " + batchSize + "건)" : "");
+        meterRegistry.counter("db.slow.queries", "caller", caller != null ? caller : BACKGROUND_CALLER).increment();
+    }
+
+    /**
+     * 현재 요청을 처리 중인 컨트롤러 메서드 (요청 스레드가 아니면 null)
+     */
+    private static String currentController() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return null;
+    }
+
+    private String abbreviate(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        String normalized = sql.replaceAll("\\s+", " ").trim();
+        return normalized.length() > maxSqlLength ? normalized.substring(0, maxSqlLength) + "..." : normalized;
+    }
+
+    /**
+     * 바인드 값의 형태 (타입, 문자열/바이트 길이)
+     */
+    private static String shapeOf(String setter, Object value) {
+        if ("setNull".equals(setter) || value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(statement, CallableStatement.class, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(statement, PreparedStatement.class, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(statement, Statement.class, null);
+            }
+            return result;
+        }
+
+        private Object wrapStatement(Statement statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(
+                    SlowQueryLog.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final Map<Integer, String> parameterShapes = new TreeMap<>();
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "clearParameters":
+                    parameterShapes.clear();
+                    break;
+                case "addBatch":
+                    batchSize++;
+                    break;
+                case "clearBatch":
+                    batchSize = 0;
+                    break;
+                default:
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameterShapes.put(index, shapeOf(name, args[1]));
+                    }
+            }
+
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= thresholdNanos) {
+                    String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                    report(elapsed, executed, parameterShapes, batchSize);
+                }
+                if ("executeBatch".equals(name) || "executeLargeBatch".equals(name)) {
+                    batchSize = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.plate.server.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 느린 쿼리 로그 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "persistence.slow-query")
+public class SlowQueryProperties {
+
+    /**
+     * 사용 여부 (Hibernate가 사용하는 JDBC 문장의 실행 시간을 측정)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이 시간 이상 걸린 문장을 로그로 남김
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * 로그에 남기는 SQL 최대 길이
+     */
+    private int maxSqlLength = 1000;
+}
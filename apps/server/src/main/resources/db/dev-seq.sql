@@ -0,0 +1,6 @@
+-- 개발 환경(H2, create-drop) seq 자동 증가
+-- 운영 스키마(Prisma)의 autoincrement와 같은 동작으로 키셋 페이지네이션 기준 값을 채운다
+CREATE SEQUENCE IF NOT EXISTS users_seq_seq START WITH 1;
+ALTER TABLE users ALTER COLUMN seq SET DEFAULT NEXT VALUE FOR users_seq_seq;
+CREATE SEQUENCE IF NOT EXISTS tenants_seq_seq START WITH 1;
+ALTER TABLE tenants ALTER COLUMN seq SET DEFAULT NEXT VALUE FOR tenants_seq_seq;
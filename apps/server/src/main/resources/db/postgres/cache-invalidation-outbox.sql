@@ -0,0 +1,17 @@
+-- 캐시 무효화 아웃박스 (PostgreSQL)
+-- 운영 스키마는 Prisma가 관리하므로 애플리케이션이 자동 실행하지 않는다. cache.invalidation.enabled 전에 한 번 수동으로 실행한다.
+-- 릴레이가 읽은 행을 바로 삭제하므로 테이블에는 아직 발행되지 않은 이벤트만 남는다.
+
+CREATE TABLE IF NOT EXISTS cache_invalidation_outbox (
+    id         BIGSERIAL    PRIMARY KEY,
+    region     VARCHAR(32)  NOT NULL,
+    key_id     VARCHAR(64)  NOT NULL,
+    key_email  VARCHAR(255),
+    created_at TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- 삭제가 잦은 큐 테이블이므로 autovacuum을 자주 돌린다
+ALTER TABLE cache_invalidation_outbox SET (
+    autovacuum_vacuum_scale_factor = 0.01,
+    autovacuum_vacuum_threshold = 1000
+);
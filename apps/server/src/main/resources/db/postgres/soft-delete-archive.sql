@@ -0,0 +1,40 @@
+-- 소프트 삭제 대응 인덱스 및 보관 테이블 (PostgreSQL)
+-- 운영 스키마는 Prisma가 관리하므로 애플리케이션이 자동 실행하지 않는다. 배포 전에 한 번 수동으로 실행한다.
+-- CREATE INDEX CONCURRENTLY는 트랜잭션 밖에서 실행해야 한다 (psql 기본 autocommit).
+
+-- ========== 활성 행 부분 인덱스 ==========
+-- 조회는 모두 removed_at IS NULL 조건을 포함하므로 삭제된 행을 인덱스에서 제외한다
+
+-- 사용자 목록 (키셋 페이지네이션)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_active_seq
+    ON users (seq) WHERE removed_at IS NULL;
+
+-- 사용자 캐시 적재 (최근 갱신순)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_active_updated_at
+    ON users (updated_at DESC) WHERE removed_at IS NULL;
+
+-- 테넌트 소속 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tenants_active_user_id
+    ON tenants (user_id, main DESC, seq) WHERE removed_at IS NULL;
+
+-- ========== 보관 대상 조회 인덱스 ==========
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_removed_at
+    ON users (removed_at) WHERE removed_at IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tenants_removed_at
+    ON tenants (removed_at) WHERE removed_at IS NOT NULL;
+
+-- ========== 보관 테이블 ==========
+-- 원본과 같은 컬럼 순서 + archived_at (보관 작업이 SELECT *로 옮기므로 원본 컬럼을 추가하면 같은 위치에 추가해야 한다)
+-- 제약 조건과 기본값은 복사하지 않는다 (같은 이메일의 사용자가 여러 번 보관될 수 있음)
+
+CREATE TABLE IF NOT EXISTS users_archive (LIKE users);
+ALTER TABLE users_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT now();
+CREATE INDEX IF NOT EXISTS idx_users_archive_id ON users_archive (id);
+CREATE INDEX IF NOT EXISTS idx_users_archive_email ON users_archive (email);
+
+CREATE TABLE IF NOT EXISTS tenants_archive (LIKE tenants);
+ALTER TABLE tenants_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT now();
+CREATE INDEX IF NOT EXISTS idx_tenants_archive_id ON tenants_archive (id);
+CREATE INDEX IF NOT EXISTS idx_tenants_archive_user_id ON tenants_archive (user_id);
@@ -0,0 +1,81 @@
+package org.plate.server.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.plate.common.enums.Permission;
+import org.plate.security.authorization.PermissionAuthorizationManager;
+import org.plate.security.userdetails.UserPrincipal;
+import org.plate.service.tenant.TenantRoles;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TenantRoleAuthorizationTest {
+
+    private final PermissionAuthorizationManager authorizationManager = new PermissionAuthorizationManager();
+
+    @Test
+    @DisplayName("테넌트 역할은 대소문자와 관계없이 전역 ADMIN으로 바뀌지 않는다")
+    void tenantAdminIsNeverGlobalAdmin() {
+        assertThat(TenantRoles.globalRoleOf("admin")).isNull();
+        assertThat(TenantRoles.globalRoleOf("ADMIN")).isNull();
+        assertThat(TenantRoles.globalRoleOf("Admin")).isNull();
+        assertThat(TenantRoles.globalRoleOf("guest")).isEqualTo("GUEST");
+        assertThat(TenantRoles.globalRoleOf("USER")).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("테넌트 admin은 사용자 목록 조회에 접근할 수 없다")
+    void tenantAdminCannotListUsers() throws Exception {
+        Method findUsers = UserController.class.getMethod("findUsers", String.class, Integer.class);
+
+        assertThat(isGranted(tenantAdmin(), findUsers)).isFalse();
+    }
+
+    @Test
+    @DisplayName("테넌트 admin은 사용자 대량 등록에 접근할 수 없다")
+    void tenantAdminCannotImportUsers() throws Exception {
+        Method importUsers = UserController.class.getMethod(
+                "importUsers", UserPrincipal.class, HttpServletRequest.class);
+
+        assertThat(isGranted(tenantAdmin(), importUsers)).isFalse();
+    }
+
+    @Test
+    @DisplayName("테넌트 admin에게는 액추에이터 권한이 없다")
+    void tenantAdminCannotReadActuator() {
+        assertThat(tenantAdmin().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .doesNotContain(Permission.ACTUATOR_READ.name(), "ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("전역 ADMIN은 같은 엔드포인트에 접근할 수 있다")
+    void globalAdminIsGranted() throws Exception {
+        UserPrincipal admin = UserPrincipal.of("admin-1", "admin@plate.dev", "관리자", "ADMIN", null);
+        Method findUsers = UserController.class.getMethod("findUsers", String.class, Integer.class);
+
+        assertThat(isGranted(admin, findUsers)).isTrue();
+    }
+
+    private static UserPrincipal tenantAdmin() {
+        return UserPrincipal.of("user-1", "user@plate.dev", "사용자",
+                TenantRoles.globalRoleOf("admin"), "tenant-1");
+    }
+
+    private boolean isGranted(UserPrincipal principal, Method method) {
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        return authorizationManager.check(() -> authentication, invocation).isGranted();
+    }
+}
@@ -22,6 +22,14 @@ public final class AuthConstants {
     public static final String CLAIM_ROLE = "role";
     public static final String CLAIM_TENANT_ID = "tenantId";
     public static final String CLAIM_TYPE = "type";
+    public static final String CLAIM_FAMILY_ID = "fid";
+
+    // ========== 축약 클레임 키 (compact 프로필) ==========
+    public static final String COMPACT_CLAIM_EMAIL = "e";
+    public static final String COMPACT_CLAIM_ROLE = "r";
+    public static final String COMPACT_CLAIM_TENANT_ID = "tid";
+    public static final String COMPACT_CLAIM_TYPE = "t";
+    public static final String COMPACT_CLAIM_FAMILY_ID = "f";
 
     // ========== 기본값 ==========
     public static final String DEFAULT_ROLE = "USER";
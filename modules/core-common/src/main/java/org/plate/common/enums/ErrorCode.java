@@ -16,6 +16,8 @@ public enum ErrorCode {
     COMMON_INTERNAL_ERROR(500, "COMMON_002", "서버 내부 오류가 발생했습니다"),
     COMMON_NOT_FOUND(404, "COMMON_003", "요청한 리소스를 찾을 수 없습니다"),
     COMMON_METHOD_NOT_ALLOWED(405, "COMMON_004", "허용되지 않은 HTTP 메서드입니다"),
+    COMMON_SERVICE_BUSY(503, "COMMON_005", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요"),
+    COMMON_DATA_CONFLICT(409, "COMMON_006", "다른 데이터와 충돌하여 처리할 수 없습니다"),
 
     // ========== 인증 에러 (AUTH_XXX) ==========
     AUTH_INVALID_CREDENTIALS(401, "AUTH_001", "이메일 또는 비밀번호가 올바르지 않습니다"),
@@ -26,12 +28,15 @@ public enum ErrorCode {
     AUTH_REFRESH_TOKEN_INVALID(401, "AUTH_006", "유효하지 않은 리프레시 토큰입니다"),
     AUTH_UNAUTHORIZED(401, "AUTH_007", "인증이 필요합니다"),
     AUTH_ACCESS_DENIED(403, "AUTH_008", "접근 권한이 없습니다"),
+    AUTH_TOO_MANY_ATTEMPTS(429, "AUTH_009", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요"),
 
     // ========== 사용자 에러 (USER_XXX) ==========
     USER_NOT_FOUND(404, "USER_001", "사용자를 찾을 수 없습니다"),
     USER_EMAIL_DUPLICATE(409, "USER_002", "이미 사용 중인 이메일입니다"),
     USER_ALREADY_EXISTS(409, "USER_003", "이미 존재하는 사용자입니다"),
     USER_INVALID_PASSWORD(400, "USER_004", "비밀번호 형식이 올바르지 않습니다"),
+    USER_PHONE_DUPLICATE(409, "USER_005", "이미 사용 중인 전화번호입니다"),
+    USER_NAME_DUPLICATE(409, "USER_006", "이미 사용 중인 이름입니다"),
 
     // ========== 유효성 검사 에러 (VALIDATION_XXX) ==========
     VALIDATION_ERROR(400, "VALIDATION_001", "입력값 검증에 실패했습니다"),
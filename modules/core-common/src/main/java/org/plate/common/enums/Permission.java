@@ -0,0 +1,38 @@
+package org.plate.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 권한 정의
+ * 각 권한은 선언 순서에 해당하는 비트 하나를 차지한다 (최대 64개)
+ */
+@Getter
+public enum Permission {
+    USER_READ,
+    USER_WRITE,
+    TENANT_READ,
+    TENANT_WRITE,
+    USER_IMPORT,
+    USER_LIST,
+    ACTUATOR_READ;
+
+    /**
+     * 권한 비트 마스크
+     */
+    private final long mask;
+
+    Permission() {
+        this.mask = 1L << ordinal();
+    }
+
+    /**
+     * 권한 목록을 비트 마스크로 변환
+     */
+    public static long maskOf(Permission... permissions) {
+        long mask = 0L;
+        for (Permission permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+}
@@ -1,9 +1,31 @@
 package org.plate.common.enums;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
 /**
  * JWT 토큰 타입
  */
+@Getter
+@RequiredArgsConstructor
 public enum TokenType {
-    ACCESS,
-    REFRESH
+    ACCESS("a"),
+    REFRESH("r");
+
+    /**
+     * 축약 클레임 프로필에서 사용하는 한 글자 코드
+     */
+    private final String code;
+
+    /**
+     * 한 글자 코드로 토큰 타입 조회
+     */
+    public static TokenType fromCode(String code) {
+        for (TokenType type : values()) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 토큰 타입 코드: " + code);
+    }
 }
@@ -0,0 +1,22 @@
+package org.plate.common.exception;
+
+import lombok.Getter;
+import org.plate.common.enums.ErrorCode;
+
+/**
+ * 요청 제한 초과 예외
+ * 다시 시도할 수 있을 때까지의 시간을 Retry-After 헤더로 전달한다
+ */
+@Getter
+public class TooManyRequestsException extends BusinessException {
+
+    /**
+     * 재시도 가능 시점까지 남은 시간 (초)
+     */
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,32 @@
+package org.plate.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 전달하여 조회한다
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지")
+public class CursorPage<T> {
+
+    @Schema(description = "항목 목록")
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 없음)", example = "czoxMjM0NQ")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
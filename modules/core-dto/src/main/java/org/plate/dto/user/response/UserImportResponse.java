@@ -0,0 +1,55 @@
+package org.plate.dto.user.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 대량 등록 결과 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 대량 등록 결과")
+public class UserImportResponse {
+
+    @Schema(description = "읽은 행 수 (헤더, 빈 줄 제외)", example = "100000")
+    private long totalRows;
+
+    @Schema(description = "등록된 행 수", example = "99990")
+    private long importedRows;
+
+    @Schema(description = "실패한 행 수", example = "10")
+    private long failedRows;
+
+    @Schema(description = "행별 오류 (최대 개수까지만 포함)")
+    private List<RowError> errors;
+
+    @Schema(description = "오류 목록이 최대 개수를 넘어 잘렸는지 여부", example = "false")
+    private boolean errorsTruncated;
+
+    /**
+     * 행별 오류
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "행별 오류")
+    public static class RowError {
+
+        @Schema(description = "입력 파일의 줄 번호 (1부터)", example = "42")
+        private long line;
+
+        @Schema(description = "에러 코드", example = "USER_002")
+        private String errorCode;
+
+        @Schema(description = "오류 메시지", example = "이미 사용 중인 이메일입니다")
+        private String message;
+    }
+}
@@ -0,0 +1,62 @@
+package org.plate.dto.user.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 목록 항목 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 목록 항목")
+public class UserListItemResponse {
+
+    @Schema(description = "사용자 ID", example = "01929c1e-8f3a-7b42-9d51-3f7a2c9e4b10")
+    private String id;
+
+    @Schema(description = "이메일", example = "user@example.com")
+    private String email;
+
+    @Schema(description = "이름", example = "홍길동")
+    private String name;
+
+    @Schema(description = "전화번호", example = "010-1234-5678")
+    private String phone;
+
+    @Schema(description = "가입 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "소속 테넌트 목록")
+    private List<TenantMembershipResponse> tenants;
+
+    /**
+     * 테넌트 소속
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "테넌트 소속")
+    public static class TenantMembershipResponse {
+
+        @Schema(description = "테넌트 ID")
+        private String tenantId;
+
+        @Schema(description = "스페이스 ID")
+        private String spaceId;
+
+        @Schema(description = "역할 ID")
+        private String roleId;
+
+        @Schema(description = "메인 테넌트 여부", example = "true")
+        private boolean main;
+    }
+}
@@ -2,6 +2,9 @@ package org.plate.entity.base;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.JavaType;
+import org.plate.entity.base.id.GeneratedUuidV7;
+import org.plate.entity.base.id.UuidStringJavaType;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,6 +14,9 @@ import java.time.LocalDateTime;
 /**
  * 기본 엔티티 (공통 필드)
  * prj-core의 Prisma 스키마와 동일한 구조
+ *
+ * id는 시간 순으로 증가하는 UUIDv7이며, 컬럼 타입은 hibernate.type.preferred_uuid_jdbc_type을 따른다.
+ * 하위 엔티티는 @SQLRestriction("removed_at IS NULL")로 소프트 삭제된 행을 조회에서 제외한다.
  */
 @Getter
 @MappedSuperclass
@@ -18,7 +24,8 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
+    @JavaType(UuidStringJavaType.class)
     @Column(name = "id", updatable = false, nullable = false)
     private String id;
 
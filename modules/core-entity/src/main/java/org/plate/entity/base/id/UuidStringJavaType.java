@@ -0,0 +1,112 @@
+package org.plate.entity.base.id;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * 문자열 UUID <-> DB 컬럼 매핑
+ *
+ * 엔티티와 API, 토큰에서는 문자열로 다루고, 컬럼 타입은 hibernate.type.preferred_uuid_jdbc_type 설정을 따른다.
+ * (VARCHAR/CHAR: 36자 문자열, UUID: DB 네이티브 uuid, BINARY: 16바이트)
+ */
+public class UuidStringJavaType extends AbstractClassJavaType<String> {
+
+    public static final UuidStringJavaType INSTANCE = new UuidStringJavaType();
+
+    private static final int UUID_TEXT_LENGTH = 36;
+    private static final int UUID_BINARY_LENGTH = 16;
+
+    public UuidStringJavaType() {
+        super(String.class);
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators context) {
+        return context.getJdbcType(context.getPreferredSqlTypeCodeForUuid());
+    }
+
+    @Override
+    public long getDefaultSqlLength(Dialect dialect, JdbcType jdbcType) {
+        return isBinary(jdbcType.getDdlTypeCode()) ? UUID_BINARY_LENGTH : UUID_TEXT_LENGTH;
+    }
+
+    @Override
+    public String toString(String value) {
+        return value;
+    }
+
+    @Override
+    public String fromString(CharSequence string) {
+        return string == null ? null : string.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return (X) value;
+        }
+        if (UUID.class.isAssignableFrom(type)) {
+            return (X) UUID.fromString(value);
+        }
+        if (byte[].class.isAssignableFrom(type)) {
+            return (X) toBytes(UUID.fromString(value));
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String string) {
+            return string;
+        }
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        if (value instanceof byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        throw unknownWrap(value.getClass());
+    }
+
+    /**
+     * JDBC로 직접 바인딩할 값 (JdbcTemplate 등 Hibernate를 거치지 않는 경로용)
+     *
+     * @param preferredType hibernate.type.preferred_uuid_jdbc_type 설정 값 (SqlTypes 상수 이름)
+     */
+    public static Object toJdbcValue(String value, String preferredType) {
+        if (value == null) {
+            return null;
+        }
+        return switch (preferredType.strip().toUpperCase()) {
+            case "UUID", "OTHER" -> UUID.fromString(value);
+            case "BINARY", "VARBINARY" -> toBytes(UUID.fromString(value));
+            default -> value;
+        };
+    }
+
+    private static boolean isBinary(int sqlTypeCode) {
+        return sqlTypeCode == SqlTypes.BINARY || sqlTypeCode == SqlTypes.VARBINARY;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(UUID_BINARY_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
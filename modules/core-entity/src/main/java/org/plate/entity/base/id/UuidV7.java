@@ -0,0 +1,45 @@
+package org.plate.entity.base.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 생성기 (RFC 9562)
+ *
+ * 상위 48비트는 Unix 밀리초, rand_a 12비트는 같은 밀리초 안의 순번, rand_b 62비트는 난수이다.
+ * 한 노드 안에서는 항상 증가하는 값을 만들며 (순번이 넘치면 다음 밀리초로 넘어감),
+ * 시간 순으로 정렬되므로 B-tree 인덱스의 오른쪽 끝에 삽입된다.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * (밀리초 << 12) | 순번
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 새 UUIDv7
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long current = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSigBits = ((current >>> 12) << 16) | 0x7000L | (current & 0xFFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 새 UUIDv7 문자열 (API, 토큰에 쓰는 형식)
+     */
+    public static String nextString() {
+        return next().toString();
+    }
+}
@@ -2,13 +2,17 @@ package org.plate.entity.tenant;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.SQLRestriction;
 import org.plate.entity.base.BaseEntity;
+import org.plate.entity.base.id.UuidStringJavaType;
 
 /**
  * 테넌트 엔티티
  * prj-core의 Prisma Tenant 모델과 동일한 구조 (멀티테넌트 지원)
  */
 @Entity
+@SQLRestriction("removed_at IS NULL")
 @Table(name = "tenants")
 @Getter
 @Setter
@@ -17,9 +21,11 @@ import org.plate.entity.base.BaseEntity;
 @Builder
 public class Tenant extends BaseEntity {
 
+    @JavaType(UuidStringJavaType.class)
     @Column(name = "user_id", nullable = false)
     private String userId;
 
+    @JavaType(UuidStringJavaType.class)
     @Column(name = "space_id", nullable = false)
     private String spaceId;
 
@@ -2,6 +2,7 @@ package org.plate.entity.user;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 import org.plate.entity.base.BaseEntity;
 
 /**
@@ -9,7 +10,12 @@ import org.plate.entity.base.BaseEntity;
  * prj-core의 Prisma User 모델과 동일한 구조
  */
 @Entity
-@Table(name = "users")
+@SQLRestriction("removed_at IS NULL")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = User.UK_PHONE, columnNames = "phone"),
+        @UniqueConstraint(name = User.UK_NAME, columnNames = "name")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,13 +23,20 @@ import org.plate.entity.base.BaseEntity;
 @Builder
 public class User extends BaseEntity {
 
-    @Column(name = "phone", nullable = false, unique = true)
+    /**
+     * 유니크 제약 조건 이름 (Prisma 기본 이름과 동일, 중복 오류 구분에 사용)
+     */
+    public static final String UK_EMAIL = "users_email_key";
+    public static final String UK_PHONE = "users_phone_key";
+    public static final String UK_NAME = "users_name_key";
+
+    @Column(name = "phone", nullable = false)
     private String phone;
 
-    @Column(name = "name", nullable = false, unique = true)
+    @Column(name = "name", nullable = false)
     private String name;
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @Column(name = "password", nullable = false)
@@ -11,4 +11,7 @@ dependencies {
 
     // Spring Data JPA
     api("org.springframework.boot:spring-boot-starter-data-jpa")
+
+    // 읽기 복제본 라우팅 (최근 쓰기 기록)
+    implementation("com.github.ben-manes.caffeine:caffeine")
 }
@@ -0,0 +1,72 @@
+package org.plate.repository.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 소프트 삭제된 행을 보관 테이블로 옮기는 Repository (PostgreSQL 전용)
+ *
+ * 한 번에 limit개의 행만 잠그고(FOR UPDATE SKIP LOCKED) DELETE ... RETURNING 결과를 보관 테이블에 INSERT한다.
+ * 다른 트랜잭션이 잡고 있는 행은 건너뛰므로 여러 노드가 동시에 실행해도 서로 기다리지 않는다.
+ * 스키마는 db/postgres/soft-delete-archive.sql 참고
+ */
+@Repository
+@RequiredArgsConstructor
+public class SoftDeleteArchiveRepository {
+
+    private static final String ARCHIVE_TENANTS_SQL = """
+            WITH moved AS (
+                DELETE FROM tenants WHERE id IN (
+                    SELECT id FROM tenants
+                    WHERE removed_at < ?
+                    ORDER BY removed_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING *
+            )
+            INSERT INTO tenants_archive SELECT moved.*, now() FROM moved
+            """;
+
+    /**
+     * 테넌트가 남아 있는 사용자는 외래키 때문에 건너뛴다 (테넌트가 먼저 보관된 뒤 처리)
+     */
+    private static final String ARCHIVE_USERS_SQL = """
+            WITH moved AS (
+                DELETE FROM users WHERE id IN (
+                    SELECT u.id FROM users u
+                    WHERE u.removed_at < ?
+                      AND NOT EXISTS (SELECT 1 FROM tenants t WHERE t.user_id = u.id)
+                    ORDER BY u.removed_at
+                    LIMIT ?
+                    FOR UPDATE OF u SKIP LOCKED
+                )
+                RETURNING *
+            )
+            INSERT INTO users_archive SELECT moved.*, now() FROM moved
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * removedBefore 이전에 삭제된 테넌트를 최대 limit개 보관 (호출자의 트랜잭션에서 실행)
+     *
+     * @return 보관된 행 수
+     */
+    public int archiveTenants(LocalDateTime removedBefore, int limit) {
+        return jdbcTemplate.update(ARCHIVE_TENANTS_SQL, Timestamp.valueOf(removedBefore), limit);
+    }
+
+    /**
+     * removedBefore 이전에 삭제된 사용자를 최대 limit개 보관 (호출자의 트랜잭션에서 실행)
+     *
+     * @return 보관된 행 수
+     */
+    public int archiveUsers(LocalDateTime removedBefore, int limit) {
+        return jdbcTemplate.update(ARCHIVE_USERS_SQL, Timestamp.valueOf(removedBefore), limit);
+    }
+}
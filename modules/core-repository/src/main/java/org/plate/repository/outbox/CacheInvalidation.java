@@ -0,0 +1,31 @@
+package org.plate.repository.outbox;
+
+/**
+ * 캐시 무효화 이벤트 (아웃박스 행, 스트림 메시지 공통)
+ *
+ * @param region 무효화 대상 캐시
+ * @param key    사용자 ID
+ * @param email  사용자 이메일 (USER만, 없으면 null)
+ */
+public record CacheInvalidation(Region region, String key, String email) {
+
+    public enum Region {
+        /**
+         * 사용자 캐시 (id, email)
+         */
+        USER,
+
+        /**
+         * 사용자별 테넌트 소속 캐시
+         */
+        TENANT_MEMBERSHIP
+    }
+
+    public static CacheInvalidation user(String id, String email) {
+        return new CacheInvalidation(Region.USER, id, email);
+    }
+
+    public static CacheInvalidation tenantMembership(String userId) {
+        return new CacheInvalidation(Region.TENANT_MEMBERSHIP, userId, null);
+    }
+}
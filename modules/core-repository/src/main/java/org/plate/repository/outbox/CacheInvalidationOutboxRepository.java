@@ -0,0 +1,70 @@
+package org.plate.repository.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 캐시 무효화 아웃박스 Repository (PostgreSQL 전용)
+ *
+ * 변경과 같은 트랜잭션에서 이벤트를 기록하고, 릴레이가 배치 단위로 꺼내 간다.
+ * 꺼낼 때는 잠금을 건 행만 삭제하므로(FOR UPDATE SKIP LOCKED) 여러 노드의 릴레이가 동시에 실행되어도 같은 행을 중복 처리하지 않는다.
+ * 스키마는 db/postgres/cache-invalidation-outbox.sql 참고
+ */
+@Repository
+@RequiredArgsConstructor
+public class CacheInvalidationOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidation_outbox (region, key_id, key_email, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String CLAIM_SQL = """
+            DELETE FROM cache_invalidation_outbox WHERE id IN (
+                SELECT id FROM cache_invalidation_outbox
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, region, key_id, key_email, created_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이벤트 기록 (호출자의 트랜잭션에서 실행)
+     */
+    public void append(CacheInvalidation event) {
+        jdbcTemplate.update(INSERT_SQL,
+                event.region().name(), event.key(), event.email(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 가장 오래된 이벤트를 최대 limit개 꺼냄 (호출자의 트랜잭션에서 실행, 롤백 시 남아 있음)
+     *
+     * @return 기록 순서대로 정렬된 이벤트
+     */
+    public List<ClaimedEvent> claim(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ClaimedEvent(
+                        rs.getLong("id"),
+                        new CacheInvalidation(
+                                CacheInvalidation.Region.valueOf(rs.getString("region")),
+                                rs.getString("key_id"),
+                                rs.getString("key_email")),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                        limit)
+                .stream()
+                .sorted(Comparator.comparingLong(ClaimedEvent::id))
+                .toList();
+    }
+
+    /**
+     * 아웃박스에서 꺼낸 이벤트
+     */
+    public record ClaimedEvent(long id, CacheInvalidation event, LocalDateTime createdAt) {
+    }
+}
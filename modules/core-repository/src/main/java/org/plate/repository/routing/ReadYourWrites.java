@@ -0,0 +1,106 @@
+package org.plate.repository.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 사용 시 자기 쓰기 읽기(read-your-writes) 보장
+ *
+ * 쓰기를 커밋한 대상(사용자 ID, 이메일 등)을 일정 시간 기록해 두고,
+ * 그 대상에 대한 읽기는 복제 지연이 지나기 전까지 primary로 보낸다.
+ * 읽기 대상은 요청의 인증 사용자 또는 bind()로 지정한 값이다.
+ * (노드 로컬 기록이므로 다른 노드로 간 요청은 보장하지 않는다)
+ */
+@Component
+public class ReadYourWrites {
+
+    /**
+     * bind() 범위에서만 설정되므로 가상 스레드에서도 요청 사이에 값이 남지 않는다
+     */
+    private static final ThreadLocal<String> SUBJECT = new ThreadLocal<>();
+
+    /**
+     * 복제본 라우팅 미사용 시 null
+     */
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWrites(
+            @Value("${datasource.replica.enabled:false}") boolean replicaEnabled,
+            @Value("${datasource.replica.read-your-writes-window:5s}") Duration window
+    ) {
+        this.recentWrites = replicaEnabled
+                ? Caffeine.newBuilder().expireAfterWrite(window).maximumSize(100_000).build()
+                : null;
+    }
+
+    /**
+     * 쓰기 대상 기록 (트랜잭션 중이면 커밋 후 기록)
+     */
+    public void markWritten(String... subjects) {
+        if (recentWrites == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(subjects);
+                }
+            });
+        } else {
+            record(subjects);
+        }
+    }
+
+    /**
+     * 현재 스레드의 읽기 대상 지정 (인증 정보가 없는 경로용, try-with-resources로 해제)
+     */
+    public Binding bind(String subject) {
+        String previous = SUBJECT.get();
+        SUBJECT.set(subject);
+        return () -> {
+            if (previous != null) {
+                SUBJECT.set(previous);
+            } else {
+                SUBJECT.remove();
+            }
+        };
+    }
+
+    /**
+     * 현재 읽기를 primary로 보내야 하는지 여부
+     *
+     * @param principalId 요청의 인증 사용자 ID (없으면 null)
+     */
+    public boolean requiresPrimary(String principalId) {
+        if (recentWrites == null) {
+            return false;
+        }
+        String subject = SUBJECT.get();
+        return (subject != null && recentWrites.getIfPresent(subject) != null)
+                || (principalId != null && recentWrites.getIfPresent(principalId) != null);
+    }
+
+    private void record(String... subjects) {
+        for (String subject : subjects) {
+            if (subject != null) {
+                recentWrites.put(subject, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * bind() 해제
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -1,11 +1,13 @@
 package org.plate.repository.tenant;
 
 import org.plate.entity.tenant.Tenant;
+import org.plate.repository.tenant.projection.TenantMembership;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +38,25 @@ public interface TenantRepository extends JpaRepository<Tenant, String> {
      */
     @Query("SELECT t FROM Tenant t WHERE t.userId = :userId AND t.main = true AND t.removedAt IS NULL")
     Optional<Tenant> findMainTenantByUserId(@Param("userId") String userId);
+
+    /**
+     * 사용자의 활성 테넌트 소속 조회 (메인 테넌트 우선)
+     */
+    @Query("""
+            SELECT new org.plate.repository.tenant.projection.TenantMembership(
+                t.id, t.userId, t.spaceId, t.roleId, t.main)
+            FROM Tenant t WHERE t.userId = :userId AND t.removedAt IS NULL
+            ORDER BY t.main DESC, t.seq ASC
+            """)
+    List<TenantMembership> findActiveMembershipsByUserId(@Param("userId") String userId);
+
+    /**
+     * 여러 사용자의 활성 테넌트 소속을 한 번에 조회 (IN 쿼리)
+     */
+    @Query("""
+            SELECT new org.plate.repository.tenant.projection.TenantMembership(
+                t.id, t.userId, t.spaceId, t.roleId, t.main)
+            FROM Tenant t WHERE t.userId IN :userIds AND t.removedAt IS NULL
+            """)
+    List<TenantMembership> findActiveMembershipsByUserIdIn(@Param("userIds") Collection<String> userIds);
 }
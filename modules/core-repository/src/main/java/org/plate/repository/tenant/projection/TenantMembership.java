@@ -0,0 +1,13 @@
+package org.plate.repository.tenant.projection;
+
+/**
+ * 사용자의 테넌트 소속 정보
+ */
+public record TenantMembership(
+        String tenantId,
+        String userId,
+        String spaceId,
+        String roleId,
+        boolean main
+) {
+}
@@ -0,0 +1,79 @@
+package org.plate.repository.user;
+
+import org.plate.entity.base.id.UuidStringJavaType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 대량 등록 Repository (JDBC 배치)
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 INSERT만 묶어서 실행한다
+ */
+@Repository
+public class UserBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, email, password, name, phone, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * id 컬럼 타입 (엔티티 매핑과 같은 설정)
+     */
+    private final String idJdbcType;
+
+    public UserBatchRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type:UUID}") String idJdbcType
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idJdbcType = idJdbcType;
+    }
+
+    /**
+     * 등록할 사용자 행 (password는 해시 값)
+     */
+    public record Row(
+            String id,
+            String email,
+            String password,
+            String name,
+            String phone
+    ) {
+        @Override
+        public String toString() {
+            return "Row[id=" + id + ", email=" + email + "]";
+        }
+    }
+
+    /**
+     * 배치 INSERT (호출자의 트랜잭션에서 실행)
+     */
+    public void insertAll(List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, UuidStringJavaType.toJdbcValue(row.id(), idJdbcType));
+            ps.setString(2, row.email());
+            ps.setString(3, row.password());
+            ps.setString(4, row.name());
+            ps.setString(5, row.phone());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    /**
+     * 단건 INSERT (배치 실패 시 행별 오류 확인용)
+     */
+    public void insert(Row row) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL,
+                UuidStringJavaType.toJdbcValue(row.id(), idJdbcType), row.email(), row.password(), row.name(), row.phone(), now, now);
+    }
+}
@@ -1,11 +1,17 @@
 package org.plate.repository.user;
 
 import org.plate.entity.user.User;
+import org.plate.repository.user.projection.UserCredentials;
+import org.plate.repository.user.projection.UserDirectoryRow;
+import org.plate.repository.user.projection.UserSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,4 +42,64 @@ public interface UserRepository extends JpaRepository<User, String> {
      */
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.removedAt IS NULL")
     Optional<User> findActiveById(@Param("id") String id);
+
+    /**
+     * ID로 활성 사용자 요약 조회 (엔티티 로딩 없이 필요한 컬럼만)
+     */
+    @Query("""
+            SELECT new org.plate.repository.user.projection.UserSummary(u.id, u.email, u.name, u.phone)
+            FROM User u WHERE u.id = :id AND u.removedAt IS NULL
+            """)
+    Optional<UserSummary> findActiveSummaryById(@Param("id") String id);
+
+    /**
+     * 이메일로 활성 사용자 요약 조회 (엔티티 로딩 없이 필요한 컬럼만)
+     */
+    @Query("""
+            SELECT new org.plate.repository.user.projection.UserSummary(u.id, u.email, u.name, u.phone)
+            FROM User u WHERE u.email = :email AND u.removedAt IS NULL
+            """)
+    Optional<UserSummary> findActiveSummaryByEmail(@Param("email") String email);
+
+    /**
+     * 이메일로 활성 사용자 로그인 정보 조회
+     */
+    @Query("""
+            SELECT new org.plate.repository.user.projection.UserCredentials(u.id, u.email, u.name, u.phone, u.password)
+            FROM User u WHERE u.email = :email AND u.removedAt IS NULL
+            """)
+    Optional<UserCredentials> findActiveCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * seq 이후의 활성 사용자 목록 (키셋 페이지네이션, OFFSET/COUNT 없음)
+     */
+    @Query("""
+            SELECT new org.plate.repository.user.projection.UserDirectoryRow(
+                u.seq, u.id, u.email, u.name, u.phone, u.createdAt)
+            FROM User u WHERE u.seq > :afterSeq AND u.removedAt IS NULL
+            ORDER BY u.seq ASC
+            """)
+    List<UserDirectoryRow> findActiveDirectoryAfter(@Param("afterSeq") int afterSeq, Pageable pageable);
+
+    /**
+     * 최근 갱신된 활성 사용자 요약 조회 (캐시 적재용)
+     */
+    @Query("""
+            SELECT new org.plate.repository.user.projection.UserSummary(u.id, u.email, u.name, u.phone)
+            FROM User u WHERE u.removedAt IS NULL ORDER BY u.updatedAt DESC
+            """)
+    List<UserSummary> findRecentlyUpdatedActiveSummaries(Pageable pageable);
+
+    /**
+     * 비밀번호 해시 교체 (저장된 해시가 예상 값일 때만 변경)
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :currentHash")
+    int updatePasswordHash(
+            @Param("id") String id,
+            @Param("currentHash") String currentHash,
+            @Param("newHash") String newHash
+    );
 }
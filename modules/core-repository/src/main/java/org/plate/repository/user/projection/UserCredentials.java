@@ -0,0 +1,22 @@
+package org.plate.repository.user.projection;
+
+/**
+ * 로그인 검증용 사용자 정보 (비밀번호 해시 포함)
+ * 로그인 경로에서만 사용하고 응답이나 캐시에 담지 않는다
+ */
+public record UserCredentials(
+        String id,
+        String email,
+        String name,
+        String phone,
+        String password
+) {
+    public UserSummary toSummary() {
+        return new UserSummary(id, email, name, phone);
+    }
+
+    @Override
+    public String toString() {
+        return "UserCredentials[id=" + id + ", email=" + email + "]";
+    }
+}
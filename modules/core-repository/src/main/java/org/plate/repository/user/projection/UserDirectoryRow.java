@@ -0,0 +1,16 @@
+package org.plate.repository.user.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록 한 행 (seq는 키셋 페이지네이션 기준)
+ */
+public record UserDirectoryRow(
+        Integer seq,
+        String id,
+        String email,
+        String name,
+        String phone,
+        LocalDateTime createdAt
+) {
+}
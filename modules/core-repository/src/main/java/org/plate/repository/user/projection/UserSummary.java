@@ -0,0 +1,18 @@
+package org.plate.repository.user.projection;
+
+import org.plate.entity.user.User;
+
+/**
+ * 사용자 요약 정보 (비밀번호 해시 제외)
+ * 토큰 응답과 토큰 검증 응답에 필요한 필드만 담는다
+ */
+public record UserSummary(
+        String id,
+        String email,
+        String name,
+        String phone
+) {
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getEmail(), user.getName(), user.getPhone());
+    }
+}
@@ -18,6 +18,16 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
 
+    // 토큰 폐기 저장소
+    implementation("org.springframework.data:spring-data-redis")
+
+    // 캐시 및 메트릭
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
+
     // Servlet API
     compileOnly("jakarta.servlet:jakarta.servlet-api")
+
+    // 패밀리 스크립트 테스트용 Redis 클라이언트 (REDIS_HOST 설정 시에만 실행)
+    testImplementation("io.lettuce:lettuce-core")
 }
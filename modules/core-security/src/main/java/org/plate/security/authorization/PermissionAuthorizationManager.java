@@ -0,0 +1,75 @@
+package org.plate.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.plate.common.enums.Permission;
+import org.plate.security.userdetails.UserPrincipal;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link RequirePermission} 처리기
+ *
+ * 메서드별 필요 권한 마스크를 한 번만 계산해 두고,
+ * 호출 시에는 사용자 역할의 권한 비트와 비교한 뒤 미리 만든 결정 객체를 반환한다.
+ */
+public class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, Long> requiredMasks = new ConcurrentHashMap<>();
+
+    /**
+     * {@link RequirePermission}이 붙은 메서드/클래스에 적용할 인터셉터 생성
+     */
+    public static AuthorizationManagerBeforeMethodInterceptor interceptor() {
+        Pointcut pointcut = Pointcuts.union(
+                new AnnotationMatchingPointcut(null, RequirePermission.class, true),
+                new AnnotationMatchingPointcut(RequirePermission.class, true)
+        );
+        return new AuthorizationManagerBeforeMethodInterceptor(pointcut, new PermissionAuthorizationManager());
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        long required = requiredMask(invocation.getMethod());
+
+        Authentication current = authentication.get();
+        if (current != null
+                && current.getPrincipal() instanceof UserPrincipal userPrincipal
+                && userPrincipal.getRoleDefinition().hasAll(required)) {
+            return GRANTED;
+        }
+        return DENIED;
+    }
+
+    private long requiredMask(Method method) {
+        Long mask = requiredMasks.get(method);
+        if (mask == null) {
+            mask = requiredMasks.computeIfAbsent(method, PermissionAuthorizationManager::resolveMask);
+        }
+        return mask;
+    }
+
+    /**
+     * 메서드 어노테이션 우선, 없으면 선언 클래스의 어노테이션 사용
+     */
+    private static Long resolveMask(Method method) {
+        RequirePermission annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequirePermission.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), RequirePermission.class);
+        }
+        return annotation != null ? Permission.maskOf(annotation.value()) : 0L;
+    }
+}
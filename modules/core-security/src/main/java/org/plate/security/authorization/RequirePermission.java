@@ -0,0 +1,25 @@
+package org.plate.security.authorization;
+
+import org.plate.common.enums.Permission;
+
+import java.lang.annotation.*;
+
+/**
+ * 메서드 실행에 필요한 권한 지정 (모든 권한을 보유해야 통과)
+ * SpEL 평가 없이 권한 비트 마스크로 확인한다
+ *
+ * 사용 예:
+ * <pre>
+ * {@code
+ * @RequirePermission(Permission.USER_WRITE)
+ * public void deleteUser(String id) { ... }
+ * }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequirePermission {
+
+    Permission[] value();
+}
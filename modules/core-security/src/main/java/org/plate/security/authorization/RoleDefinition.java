@@ -0,0 +1,51 @@
+package org.plate.security.authorization;
+
+import org.plate.common.enums.Permission;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 역할별로 한 번만 만들어 공유하는 불변 권한 정의
+ *
+ * @param name           역할 이름
+ * @param authorities    ROLE_ 권한과 각 Permission 권한 (불변 리스트)
+ * @param permissionBits Permission 비트 마스크
+ */
+public record RoleDefinition(
+        String name,
+        List<GrantedAuthority> authorities,
+        long permissionBits
+) implements Serializable {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    static RoleDefinition of(String name, Set<Permission> permissions) {
+        List<GrantedAuthority> authorities = new ArrayList<>(permissions.size() + 1);
+        authorities.add(new SimpleGrantedAuthority(ROLE_PREFIX + name));
+        long bits = 0L;
+        for (Permission permission : permissions) {
+            authorities.add(new SimpleGrantedAuthority(permission.name()));
+            bits |= permission.getMask();
+        }
+        return new RoleDefinition(name, List.copyOf(authorities), bits);
+    }
+
+    /**
+     * 권한 보유 여부
+     */
+    public boolean hasPermission(Permission permission) {
+        return (permissionBits & permission.getMask()) != 0;
+    }
+
+    /**
+     * 마스크의 모든 권한 보유 여부
+     */
+    public boolean hasAll(long requiredBits) {
+        return (permissionBits & requiredBits) == requiredBits;
+    }
+}
@@ -0,0 +1,68 @@
+package org.plate.security.authorization;
+
+import org.plate.common.constant.AuthConstants;
+import org.plate.common.enums.Permission;
+import org.plate.common.enums.RoleType;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 역할 이름 -> RoleDefinition 레지스트리
+ *
+ * 기본 역할(RoleType)은 고정된 권한 집합으로 미리 만들어 두고,
+ * Tenant.roleId처럼 자유 형식인 역할은 처음 조회할 때 권한 없이 등록하여 재사용한다.
+ */
+public final class RoleRegistry {
+
+    /**
+     * 자유 형식 역할의 최대 등록 수 (초과 시 등록하지 않고 매번 생성)
+     */
+    private static final int MAX_CUSTOM_ROLES = 1_024;
+
+    private static final Map<String, RoleDefinition> BUILT_IN_ROLES;
+
+    private static final ConcurrentMap<String, RoleDefinition> CUSTOM_ROLES = new ConcurrentHashMap<>();
+
+    static {
+        Map<String, RoleDefinition> roles = new HashMap<>();
+        register(roles, RoleType.ADMIN, EnumSet.allOf(Permission.class));
+        register(roles, RoleType.USER, EnumSet.of(Permission.USER_READ, Permission.TENANT_READ));
+        register(roles, RoleType.GUEST, EnumSet.noneOf(Permission.class));
+        BUILT_IN_ROLES = Map.copyOf(roles);
+    }
+
+    private RoleRegistry() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 역할 이름으로 정의 조회 (null이면 기본 역할)
+     */
+    public static RoleDefinition resolve(String role) {
+        String name = role != null ? role : AuthConstants.DEFAULT_ROLE;
+
+        RoleDefinition definition = BUILT_IN_ROLES.get(name);
+        if (definition != null) {
+            return definition;
+        }
+
+        definition = CUSTOM_ROLES.get(name);
+        if (definition != null) {
+            return definition;
+        }
+
+        if (CUSTOM_ROLES.size() >= MAX_CUSTOM_ROLES) {
+            return RoleDefinition.of(name, EnumSet.noneOf(Permission.class));
+        }
+        return CUSTOM_ROLES.computeIfAbsent(name, key -> RoleDefinition.of(key, EnumSet.noneOf(Permission.class)));
+    }
+
+    private static void register(Map<String, RoleDefinition> roles, RoleType roleType, Set<Permission> permissions) {
+        roles.put(roleType.name(), RoleDefinition.of(roleType.name(), permissions));
+    }
+}
@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.plate.common.constant.AuthConstants;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * JWT 관련 설정값을 담는 Configuration Properties
  */
@@ -14,10 +18,66 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class JwtProperties {
 
     /**
-     * JWT 서명에 사용할 비밀키 (최소 256bit 권장)
+     * 서명 알고리즘
+     * HMAC: 공유 비밀키 (키 길이에 따라 HS256/384/512)
+     * ES256, EDDSA: 비대칭 키 (공개키는 /.well-known/jwks.json으로 노출)
+     */
+    private SigningAlgorithm algorithm = SigningAlgorithm.HMAC;
+
+    /**
+     * JWT 서명에 사용할 비밀키 (최소 256bit 권장, HMAC 모드)
      */
     private String secret;
 
+    /**
+     * 서명용 개인키 (ES256/EDDSA 모드, PKCS#8 PEM 또는 base64 DER)
+     * 비어 있으면 ephemeral-keys-allowed일 때만 기동 시 임시 키 쌍을 생성 (개발용)
+     */
+    private String privateKey;
+
+    /**
+     * 개인키가 없을 때 임시 키 쌍 생성 허용 여부 (dev 프로필 전용)
+     * 노드마다 다른 키로 서명하게 되므로 여러 노드 배포에서는 반드시 false
+     */
+    private boolean ephemeralKeysAllowed = false;
+
+    /**
+     * 개인키에 대응하는 공개키 (X.509 PEM 또는 base64 DER)
+     */
+    private String publicKey;
+
+    /**
+     * 검증에만 사용하는 이전 공개키 (kid -> 공개키, ES256/EDDSA 모드)
+     */
+    private Map<String, String> retiredPublicKeys = new LinkedHashMap<>();
+
+    /**
+     * jwt.secret에 해당하는 키 ID (토큰 헤더의 kid)
+     */
+    private String keyId = "primary";
+
+    /**
+     * kid 헤더가 없는 토큰(키 묶음 도입 이전 발급)을 검증할 키 ID (비어 있으면 kid 없는 토큰 거부)
+     * 키 묶음(키 파일 또는 key-id/retired-secrets)에 있는 kid만 사용하며, 기존 토큰이 모두 만료되면 비운다
+     */
+    private String legacyKeyId;
+
+    /**
+     * 검증에만 사용하는 이전 비밀키 (kid -> secret)
+     * 키 교체 후 기존 토큰이 만료될 때까지 유지
+     */
+    private Map<String, String> retiredSecrets = new LinkedHashMap<>();
+
+    /**
+     * 키 파일 경로 (설정 시 secret/retired-secrets 대신 사용하며 변경 시 자동 재적용)
+     */
+    private String keysFile;
+
+    /**
+     * 키 파일 변경 확인 주기
+     */
+    private Duration keysReloadInterval = Duration.ofSeconds(30);
+
     /**
      * Access Token 만료 시간 (밀리초)
      * 기본값: 15분 (900000ms)
@@ -34,4 +94,114 @@ public class JwtProperties {
      * JWT 발급자
      */
     private String issuer = "plate-server";
+
+    /**
+     * 클레임 프로필
+     * STANDARD: 전체 클레임 이름과 name/iat/iss 포함
+     * COMPACT: 짧은 클레임 키, 한 글자 토큰 타입, name/iat/iss 및 기본값 role 생략
+     * 검증은 프로필과 관계없이 두 형식을 모두 허용
+     */
+    private ClaimsProfile claimsProfile = ClaimsProfile.STANDARD;
+
+    /**
+     * 직접 발급한 HMAC Access Token을 jjwt 파서 없이 검증하는 빠른 경로 사용 여부
+     * 판단할 수 없는 토큰은 항상 jjwt로 검증
+     */
+    private boolean fastPathEnabled = false;
+
+    /**
+     * JWKS 응답 캐시 시간 (Cache-Control max-age)
+     */
+    private Duration jwksMaxAge = Duration.ofMinutes(5);
+
+    /**
+     * 검증된 토큰 캐시 설정
+     */
+    private final VerificationCache verificationCache = new VerificationCache();
+
+    /**
+     * 토큰 폐기 설정
+     */
+    private final Revocation revocation = new Revocation();
+
+    /**
+     * Refresh Token 회전 설정
+     */
+    private final RefreshRotation refreshRotation = new RefreshRotation();
+
+    @Getter
+    @Setter
+    public static class VerificationCache {
+
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 캐시 항목 수
+         */
+        private long maximumSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Revocation {
+
+        /**
+         * 폐기 확인 사용 여부 (Redis 필요)
+         */
+        private boolean enabled = true;
+
+        /**
+         * Bloom 필터 예상 항목 수 (Refresh Token 수명 동안 폐기되는 토큰 수 기준)
+         */
+        private long expectedInsertions = 100_000;
+
+        /**
+         * Bloom 필터 허용 오탐률 (오탐 시에만 Redis 조회)
+         */
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * 다른 노드의 폐기를 읽어오는 주기
+         */
+        private Duration refreshInterval = Duration.ofSeconds(1);
+
+        /**
+         * 만료된 항목을 비우기 위해 필터 전체를 다시 만드는 주기
+         */
+        private Duration rebuildInterval = Duration.ofHours(1);
+
+        /**
+         * 폐기 스트림 최대 길이 (근사치로 정리)
+         */
+        private long maxStreamLength = 100_000;
+
+        /**
+         * Redis 장애 시 토큰 허용 여부 (false면 필터에 걸린 토큰을 거부)
+         */
+        private boolean failOpen = false;
+    }
+
+    @Getter
+    @Setter
+    public static class RefreshRotation {
+
+        /**
+         * Redis 토큰 패밀리 기반 회전 사용 여부 (false면 매 갱신마다 DB에서 사용자 조회)
+         */
+        private boolean enabled = true;
+    }
+
+    public enum SigningAlgorithm {
+        HMAC,
+        ES256,
+        EDDSA
+    }
+
+    public enum ClaimsProfile {
+        STANDARD,
+        COMPACT
+    }
 }
@@ -0,0 +1,484 @@
+package org.plate.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.plate.common.constant.AuthConstants;
+import org.plate.common.enums.TokenType;
+import org.plate.security.userdetails.UserPrincipal;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 직접 발급한 HMAC Access Token 전용 검증기 (jjwt 파서를 거치지 않는 빠른 경로)
+ *
+ * 토큰 문자열을 제자리에서 분리하고, 스레드별 버퍼에 base64url 디코딩한 뒤
+ * 스레드별 Mac으로 서명을 확인하고 UserPrincipal에 필요한 클레임만 읽는다.
+ * 가상 스레드는 요청마다 새로 만들어지므로 스레드별 버퍼 대신 공유 풀에서 빌려 쓴다.
+ * 헤더가 키 묶음이 발급한 형태와 다르거나, 서명 불일치/만료/Refresh Token 등
+ * 조금이라도 예상과 다른 토큰은 null을 반환하여 jjwt 경로로 넘긴다.
+ */
+@Slf4j
+public class FastAccessTokenVerifier {
+
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] NBF = ascii("nbf");
+    private static final byte[] JTI = ascii("jti");
+    private static final byte[] EMAIL = ascii(AuthConstants.CLAIM_EMAIL);
+    private static final byte[] NAME = ascii(AuthConstants.CLAIM_NAME);
+    private static final byte[] ROLE = ascii(AuthConstants.CLAIM_ROLE);
+    private static final byte[] TENANT_ID = ascii(AuthConstants.CLAIM_TENANT_ID);
+    private static final byte[] TYPE = ascii(AuthConstants.CLAIM_TYPE);
+    private static final byte[] ACCESS = ascii(TokenType.ACCESS.name());
+    private static final byte[] COMPACT_EMAIL = ascii(AuthConstants.COMPACT_CLAIM_EMAIL);
+    private static final byte[] COMPACT_ROLE = ascii(AuthConstants.COMPACT_CLAIM_ROLE);
+    private static final byte[] COMPACT_TENANT_ID = ascii(AuthConstants.COMPACT_CLAIM_TENANT_ID);
+    private static final byte[] COMPACT_TYPE = ascii(AuthConstants.COMPACT_CLAIM_TYPE);
+    private static final byte[] COMPACT_ACCESS = ascii(TokenType.ACCESS.getCode());
+
+    private static final int[] BASE64URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL, -1);
+        for (int i = 0; i < 26; i++) {
+            BASE64URL['A' + i] = i;
+            BASE64URL['a' + i] = 26 + i;
+        }
+        for (int i = 0; i < 10; i++) {
+            BASE64URL['0' + i] = 52 + i;
+        }
+        BASE64URL['-'] = 62;
+        BASE64URL['_'] = 63;
+    }
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    /**
+     * 가상 스레드용 버퍼 풀 (비어 있으면 새로 만들고, 가득 차면 버림)
+     */
+    private static final BlockingQueue<Buffers> SHARED_BUFFERS = new ArrayBlockingQueue<>(256);
+
+    private final JwtKeyRing keyRing;
+
+    public FastAccessTokenVerifier(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    /**
+     * 빠른 경로로 검증
+     *
+     * @return 검증된 Access Token, 빠른 경로로 판단할 수 없으면 null
+     */
+    public VerifiedToken verify(String token) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+
+        SecretKey key = findKey(token, headerEnd);
+        if (key == null) {
+            return null;
+        }
+
+        Buffers buffers = acquireBuffers();
+        try {
+            if (!signatureMatches(token, payloadEnd, key, buffers)) {
+                return null;
+            }
+
+            byte[] payload = buffers.payload(payloadEnd - headerEnd);
+            int payloadLength = decode(token, headerEnd + 1, payloadEnd, payload);
+            if (payloadLength < 0) {
+                return null;
+            }
+
+            return new ClaimsReader(payload, payloadLength).read(System.currentTimeMillis());
+        } catch (GeneralSecurityException | RuntimeException ex) {
+            log.debug("빠른 경로 검증을 건너뜁니다: {}", ex.getMessage());
+            return null;
+        } finally {
+            releaseBuffers(buffers);
+        }
+    }
+
+    private static Buffers acquireBuffers() {
+        if (!Thread.currentThread().isVirtual()) {
+            return BUFFERS.get();
+        }
+        Buffers buffers = SHARED_BUFFERS.poll();
+        return buffers != null ? buffers : new Buffers();
+    }
+
+    private static void releaseBuffers(Buffers buffers) {
+        if (Thread.currentThread().isVirtual()) {
+            SHARED_BUFFERS.offer(buffers);
+        }
+    }
+
+    /**
+     * 헤더 세그먼트가 키 묶음이 발급한 헤더와 정확히 같은 경우에만 키 반환
+     */
+    private SecretKey findKey(String token, int headerEnd) {
+        List<JwtKeyRing.SignedHeader> signedHeaders = keyRing.signedHeaders();
+        for (int i = 0; i < signedHeaders.size(); i++) {
+            JwtKeyRing.SignedHeader signedHeader = signedHeaders.get(i);
+            String encodedHeader = signedHeader.encodedHeader();
+            if (encodedHeader.length() == headerEnd && token.regionMatches(0, encodedHeader, 0, headerEnd)) {
+                return signedHeader.key();
+            }
+        }
+        return null;
+    }
+
+    private boolean signatureMatches(String token, int payloadEnd, SecretKey key, Buffers buffers)
+            throws GeneralSecurityException {
+        byte[] signingInput = buffers.signingInput(payloadEnd);
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return false;
+            }
+            signingInput[i] = (byte) c;
+        }
+
+        Mac mac = buffers.mac(key);
+        mac.update(signingInput, 0, payloadEnd);
+        byte[] expected = buffers.expected(mac.getMacLength());
+        mac.doFinal(expected, 0);
+
+        byte[] actual = buffers.signature(token.length() - payloadEnd);
+        int actualLength = decode(token, payloadEnd + 1, token.length(), actual);
+        if (actualLength != mac.getMacLength()) {
+            return false;
+        }
+
+        int diff = 0;
+        for (int i = 0; i < actualLength; i++) {
+            diff |= expected[i] ^ actual[i];
+        }
+        return diff == 0;
+    }
+
+    /**
+     * base64url(패딩 없음) 디코딩 (정규 인코딩만 허용)
+     *
+     * @return 디코딩된 바이트 수, 형식이 잘못된 경우 -1
+     */
+    private static int decode(String source, int from, int to, byte[] target) {
+        if ((to - from) % 4 == 1) {
+            return -1;
+        }
+        int written = 0;
+        int accumulator = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            accumulator = (accumulator << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                target[written++] = (byte) (accumulator >> bits);
+                accumulator &= (1 << bits) - 1;
+            }
+        }
+        // 마지막 문자의 남는 비트가 0이 아니면 같은 바이트열의 다른 표기이므로 거부 (서명 가변성 방지)
+        if (accumulator != 0) {
+            return -1;
+        }
+        return written;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 스레드별 재사용 버퍼와 Mac
+     */
+    private static final class Buffers {
+
+        private byte[] signingInput = new byte[1024];
+        private byte[] payload = new byte[768];
+        private byte[] signature = new byte[64];
+        private byte[] expected = new byte[64];
+        private Mac mac;
+        private SecretKey macKey;
+
+        byte[] signingInput(int size) {
+            if (signingInput.length < size) {
+                signingInput = new byte[size];
+            }
+            return signingInput;
+        }
+
+        byte[] payload(int encodedSize) {
+            int size = encodedSize * 3 / 4 + 1;
+            if (payload.length < size) {
+                payload = new byte[size];
+            }
+            return payload;
+        }
+
+        byte[] signature(int encodedSize) {
+            int size = encodedSize * 3 / 4 + 1;
+            if (signature.length < size) {
+                signature = new byte[size];
+            }
+            return signature;
+        }
+
+        byte[] expected(int size) {
+            if (expected.length < size) {
+                expected = new byte[size];
+            }
+            return expected;
+        }
+
+        Mac mac(SecretKey key) throws GeneralSecurityException {
+            if (mac == null || macKey != key) {
+                mac = Mac.getInstance(key.getAlgorithm());
+                mac.init(key);
+                macKey = key;
+            }
+            return mac;
+        }
+    }
+
+    /**
+     * 평평한 JSON 객체에서 필요한 클레임만 읽는 리더
+     * 중첩 객체/배열, 이스케이프 문자 등 예상 밖의 형식은 null을 반환
+     */
+    private static final class ClaimsReader {
+
+        private final byte[] json;
+        private final int length;
+        private int position;
+
+        private String subject;
+        private String email;
+        private String name;
+        private String role;
+        private String tenantId;
+        private String tokenId;
+        private boolean accessType;
+        private long expiresAtSeconds = -1;
+
+        ClaimsReader(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+        }
+
+        VerifiedToken read(long nowMillis) {
+            skipWhitespace();
+            if (!consume('{')) {
+                return null;
+            }
+            skipWhitespace();
+            if (!consume('}')) {
+                do {
+                    if (!readMember()) {
+                        return null;
+                    }
+                    skipWhitespace();
+                } while (consume(','));
+                if (!consume('}')) {
+                    return null;
+                }
+            }
+
+            if (!accessType || subject == null || expiresAtSeconds < 0) {
+                return null;
+            }
+            long expiresAtMillis = expiresAtSeconds * 1000;
+            if (expiresAtMillis <= nowMillis) {
+                return null;
+            }
+
+            return new VerifiedToken(
+                    UserPrincipal.of(subject, email, name, role, tenantId),
+                    TokenType.ACCESS,
+                    tokenId,
+                    null,
+                    expiresAtMillis
+            );
+        }
+
+        private boolean readMember() {
+            skipWhitespace();
+            if (!consume('"')) {
+                return false;
+            }
+            int keyStart = position;
+            int keyEnd = findStringEnd();
+            if (keyEnd < 0) {
+                return false;
+            }
+            position = keyEnd + 1;
+            skipWhitespace();
+            if (!consume(':')) {
+                return false;
+            }
+            skipWhitespace();
+            if (position >= length) {
+                return false;
+            }
+
+            byte first = json[position];
+            if (first == '"') {
+                position++;
+                int valueStart = position;
+                int valueEnd = findStringEnd();
+                if (valueEnd < 0) {
+                    return false;
+                }
+                position = valueEnd + 1;
+                return assignString(keyStart, keyEnd, valueStart, valueEnd);
+            }
+            if (first == '-' || (first >= '0' && first <= '9')) {
+                int valueStart = position;
+                while (position < length && isNumberChar(json[position])) {
+                    position++;
+                }
+                return assignNumber(keyStart, keyEnd, valueStart, position);
+            }
+            if (first == 'n' || first == 't' || first == 'f') {
+                while (position < length && json[position] >= 'a' && json[position] <= 'z') {
+                    position++;
+                }
+                // 사용하는 클레임이 문자열/숫자가 아니면 예상 밖의 토큰
+                return !isUsedKey(keyStart, keyEnd);
+            }
+            return false;
+        }
+
+        private boolean assignString(int keyStart, int keyEnd, int valueStart, int valueEnd) {
+            if (keyEquals(keyStart, keyEnd, SUB)) {
+                subject = text(valueStart, valueEnd);
+            } else if (keyEquals(keyStart, keyEnd, EMAIL) || keyEquals(keyStart, keyEnd, COMPACT_EMAIL)) {
+                email = text(valueStart, valueEnd);
+            } else if (keyEquals(keyStart, keyEnd, NAME)) {
+                name = text(valueStart, valueEnd);
+            } else if (keyEquals(keyStart, keyEnd, ROLE) || keyEquals(keyStart, keyEnd, COMPACT_ROLE)) {
+                role = text(valueStart, valueEnd);
+            } else if (keyEquals(keyStart, keyEnd, TENANT_ID) || keyEquals(keyStart, keyEnd, COMPACT_TENANT_ID)) {
+                tenantId = text(valueStart, valueEnd);
+            } else if (keyEquals(keyStart, keyEnd, JTI)) {
+                tokenId = text(valueStart, valueEnd);
+            } else if (keyEquals(keyStart, keyEnd, TYPE)) {
+                accessType = keyEquals(valueStart, valueEnd, ACCESS);
+            } else if (keyEquals(keyStart, keyEnd, COMPACT_TYPE)) {
+                accessType = keyEquals(valueStart, valueEnd, COMPACT_ACCESS);
+            } else if (keyEquals(keyStart, keyEnd, EXP) || keyEquals(keyStart, keyEnd, NBF)) {
+                return false;
+            }
+            return true;
+        }
+
+        private boolean assignNumber(int keyStart, int keyEnd, int valueStart, int valueEnd) {
+            if (keyEquals(keyStart, keyEnd, NBF)) {
+                // nbf는 직접 발급하지 않으므로 jjwt에 판단을 맡김
+                return false;
+            }
+            if (!keyEquals(keyStart, keyEnd, EXP)) {
+                return !isUsedKey(keyStart, keyEnd);
+            }
+            if (valueEnd - valueStart > 12) {
+                return false;
+            }
+            long value = 0;
+            for (int i = valueStart; i < valueEnd; i++) {
+                byte b = json[i];
+                if (b < '0' || b > '9') {
+                    return false;
+                }
+                value = value * 10 + (b - '0');
+            }
+            expiresAtSeconds = value;
+            return valueEnd > valueStart;
+        }
+
+        private boolean isUsedKey(int keyStart, int keyEnd) {
+            return keyEquals(keyStart, keyEnd, SUB)
+                    || keyEquals(keyStart, keyEnd, EXP)
+                    || keyEquals(keyStart, keyEnd, NBF)
+                    || keyEquals(keyStart, keyEnd, TYPE)
+                    || keyEquals(keyStart, keyEnd, JTI)
+                    || keyEquals(keyStart, keyEnd, COMPACT_TYPE)
+                    || keyEquals(keyStart, keyEnd, COMPACT_EMAIL)
+                    || keyEquals(keyStart, keyEnd, EMAIL)
+                    || keyEquals(keyStart, keyEnd, NAME);
+        }
+
+        /**
+         * 닫는 따옴표 위치 (이스케이프 문자가 있으면 -1)
+         */
+        private int findStringEnd() {
+            for (int i = position; i < length; i++) {
+                byte b = json[i];
+                if (b == '"') {
+                    return i;
+                }
+                if (b == '\\') {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private boolean keyEquals(int start, int end, byte[] expected) {
+            if (end - start != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (json[start + i] != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String text(int start, int end) {
+            return new String(json, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        private static boolean isNumberChar(byte b) {
+            return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+        }
+
+        private boolean consume(char expected) {
+            if (position < length && json[position] == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < length) {
+                byte b = json[position];
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return;
+                }
+                position++;
+            }
+        }
+    }
+}
@@ -2,14 +2,13 @@ package org.plate.security.jwt;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.plate.common.constant.AuthConstants;
-import org.plate.common.enums.TokenType;
+import org.plate.security.revocation.TokenRevocationService;
 import org.plate.security.userdetails.UserPrincipal;
+import org.plate.security.web.PublicEndpointMatcher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,7 +16,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 /**
  * JWT 인증 필터
@@ -26,12 +24,25 @@ import java.util.Arrays;
  * 토큰 추출 우선순위:
  * 1. Cookie의 accessToken
  * 2. Authorization 헤더의 Bearer 토큰
+ *
+ * 검증된 토큰이라도 로그아웃 등으로 폐기된 경우 인증하지 않는다
+ * 공개 경로는 토큰 추출/검증 없이 통과시킨다
  */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final PublicEndpointMatcher publicEndpointMatcher;
+
+    /**
+     * 공개 경로(로그인, Swagger, Actuator 등)는 필터를 건너뜀
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicEndpointMatcher.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -41,12 +52,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         try {
-            String token = extractToken(request);
+            String token = TokenExtractor.extractAccessToken(request);
 
-            if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-                // Access Token인지 확인
-                if (jwtProvider.getTokenType(token) == TokenType.ACCESS) {
-                    UserPrincipal userPrincipal = jwtProvider.getUserPrincipalFromToken(token);
+            if (StringUtils.hasText(token)) {
+                // 한 번의 파싱(또는 캐시 조회)으로 서명, 만료, 타입을 모두 확인
+                VerifiedToken verifiedToken = verifiedTokenCache.getOrVerify(token)
+                        .filter(VerifiedToken::isAccessToken)
+                        .filter(verified -> !tokenRevocationService.isRevoked(verified))
+                        .orElse(null);
+
+                if (verifiedToken != null) {
+                    UserPrincipal userPrincipal = verifiedToken.principal();
 
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
@@ -70,46 +86,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-
-    /**
-     * 요청에서 JWT 토큰 추출
-     * prj-core의 JwtStrategy.extractToken과 동일한 로직
-     */
-    private String extractToken(HttpServletRequest request) {
-        // 1. 쿠키에서 추출 (우선순위 높음)
-        String tokenFromCookie = extractTokenFromCookie(request);
-        if (StringUtils.hasText(tokenFromCookie)) {
-            return tokenFromCookie;
-        }
-
-        // 2. Authorization 헤더에서 추출 (fallback)
-        return extractTokenFromHeader(request);
-    }
-
-    /**
-     * 쿠키에서 토큰 추출
-     */
-    private String extractTokenFromCookie(HttpServletRequest request) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null) {
-            return null;
-        }
-
-        return Arrays.stream(cookies)
-                .filter(cookie -> AuthConstants.ACCESS_TOKEN_COOKIE.equals(cookie.getName()))
-                .map(Cookie::getValue)
-                .findFirst()
-                .orElse(null);
-    }
-
-    /**
-     * Authorization 헤더에서 토큰 추출
-     */
-    private String extractTokenFromHeader(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AuthConstants.AUTHORIZATION_HEADER);
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(AuthConstants.BEARER_PREFIX)) {
-            return bearerToken.substring(AuthConstants.BEARER_PREFIX.length());
-        }
-        return null;
-    }
 }
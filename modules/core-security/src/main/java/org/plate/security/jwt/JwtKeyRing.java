@@ -0,0 +1,364 @@
+package org.plate.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.config.JwtProperties.SigningAlgorithm;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 서명 키 묶음 (kid 기반 키 교체 지원)
+ *
+ * 키와 파서는 키 묶음이 바뀔 때만 새로 만들고, 서명/검증 시에는 미리 만든 인스턴스를 재사용한다.
+ * 새 토큰은 현재 키로 서명하고 kid 헤더를 기록하며, 검증은 현재 키와 폐기 예정 키 모두로 수행한다.
+ * kid가 없는 토큰(키 묶음 도입 이전 발급)은 jwt.legacy-key-id가 설정된 경우에만 그 키로 검증하고, 그 외에는 거부한다.
+ * ES256/EdDSA 모드에서는 공개키를 JWKS로 노출하여 다른 서비스가 로컬에서 검증할 수 있다.
+ *
+ * 키 파일 형식 (jwt.keys-file, properties):
+ * <pre>
+ * current=2025-01
+ * # HMAC
+ * keys.2025-01=새 비밀키
+ * keys.2024-07=이전 비밀키 (검증 전용)
+ * # ES256 / EDDSA (개인키는 current 키만 필요)
+ * keys.2025-01.private=base64 PKCS#8
+ * keys.2025-01.public=base64 X.509
+ * keys.2024-07.public=base64 X.509
+ * </pre>
+ */
+@Slf4j
+public class JwtKeyRing implements AutoCloseable {
+
+    private static final String CURRENT_PROPERTY = "current";
+    private static final String KEY_PROPERTY_PREFIX = "keys.";
+    private static final String PRIVATE_SUFFIX = ".private";
+    private static final String PUBLIC_SUFFIX = ".public";
+
+    private final JwtProperties jwtProperties;
+    private final SigningAlgorithm algorithm;
+    private final Path keysFile;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final ScheduledExecutorService watcher;
+
+    private volatile KeySet keySet;
+    private volatile FileTime keysFileModifiedAt;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.algorithm = jwtProperties.getAlgorithm();
+        this.keysFile = StringUtils.hasText(jwtProperties.getKeysFile())
+                ? Path.of(jwtProperties.getKeysFile())
+                : null;
+        this.keySet = keysFile != null ? loadFromFile() : loadFromProperties();
+
+        if (keysFile != null) {
+            long interval = jwtProperties.getKeysReloadInterval().toMillis();
+            this.watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jwt-keyring-watcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.watcher.scheduleWithFixedDelay(this::reloadIfModified, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.watcher = null;
+        }
+
+        log.info("JWT 키 묶음 초기화 - 알고리즘: {}, 현재 kid: {}, 검증 가능 kid: {}",
+                algorithm, keySet.currentKeyId(), keySet.verificationKeys().keySet());
+    }
+
+    /**
+     * 현재 서명 키 ID
+     */
+    public String currentKeyId() {
+        return keySet.currentKeyId();
+    }
+
+    /**
+     * 현재 서명 키 (HMAC은 비밀키, ES256/EdDSA는 개인키)
+     */
+    public Key currentKey() {
+        return keySet.signingKey();
+    }
+
+    /**
+     * 현재 키 묶음으로 미리 만들어 둔 파서
+     */
+    public JwtParser parser() {
+        return keySet.parser();
+    }
+
+    /**
+     * kid별로 이 키 묶음이 발급하는 인코딩된 헤더와 키 (빠른 검증 경로용, HMAC 모드에서만 제공)
+     */
+    public List<SignedHeader> signedHeaders() {
+        return keySet.signedHeaders();
+    }
+
+    /**
+     * 검증 가능한 공개키 목록 (JWK 형식, HMAC 모드에서는 비어 있음)
+     */
+    public List<Map<String, Object>> publicJwks() {
+        return keySet.publicJwks();
+    }
+
+    /**
+     * 키 묶음 버전 (교체될 때마다 증가)
+     */
+    public long version() {
+        return keySet.version();
+    }
+
+    /**
+     * 키 묶음이 교체될 때 호출할 리스너 등록
+     */
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * 키 파일을 다시 읽어 키 묶음 교체
+     * 파일 형식이 잘못된 경우 기존 키 묶음을 유지
+     */
+    public void reload() {
+        if (keysFile == null) {
+            return;
+        }
+        try {
+            KeySet reloaded = loadFromFile();
+            this.keySet = reloaded;
+            log.info("JWT 키 묶음 교체 - 현재 kid: {}, 검증 가능 kid: {}",
+                    reloaded.currentKeyId(), reloaded.verificationKeys().keySet());
+            reloadListeners.forEach(Runnable::run);
+        } catch (RuntimeException ex) {
+            log.error("JWT 키 파일을 다시 읽지 못했습니다. 기존 키를 유지합니다: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+        }
+    }
+
+    private void reloadIfModified() {
+        try {
+            FileTime modifiedAt = Files.getLastModifiedTime(keysFile);
+            if (!modifiedAt.equals(keysFileModifiedAt)) {
+                // 잘못된 파일을 매 주기마다 다시 읽지 않도록 먼저 기록
+                this.keysFileModifiedAt = modifiedAt;
+                reload();
+            }
+        } catch (IOException ex) {
+            log.warn("JWT 키 파일 상태를 확인할 수 없습니다: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * application.yml 설정으로 키 묶음 생성
+     */
+    private KeySet loadFromProperties() {
+        String currentKeyId = jwtProperties.getKeyId();
+        Map<String, Key> verificationKeys = new LinkedHashMap<>();
+
+        if (algorithm == SigningAlgorithm.HMAC) {
+            SecretKey key = JwtKeys.hmacKey(jwtProperties.getSecret());
+            verificationKeys.put(currentKeyId, key);
+            jwtProperties.getRetiredSecrets()
+                    .forEach((kid, secret) -> verificationKeys.putIfAbsent(kid, JwtKeys.hmacKey(secret)));
+            return buildKeySet(currentKeyId, key, verificationKeys);
+        }
+
+        Key signingKey;
+        PublicKey publicKey;
+        if (StringUtils.hasText(jwtProperties.getPrivateKey())) {
+            if (!StringUtils.hasText(jwtProperties.getPublicKey())) {
+                throw new IllegalStateException("jwt.public-key가 설정되지 않았습니다 (" + algorithm + " 개인키와 쌍이 되는 공개키 필요)");
+            }
+            signingKey = JwtKeys.privateKey(jwtProperties.getPrivateKey(), algorithm);
+            publicKey = JwtKeys.publicKey(jwtProperties.getPublicKey(), algorithm);
+        } else {
+            if (!jwtProperties.isEphemeralKeysAllowed()) {
+                throw new IllegalStateException("jwt.private-key가 설정되지 않았습니다 (" + algorithm
+                        + " 모드는 모든 노드가 같은 키 쌍을 사용해야 함, 임시 키는 jwt.ephemeral-keys-allowed=true일 때만 허용)");
+            }
+            log.warn("JWT 개인키가 설정되지 않아 임시 {} 키 쌍을 생성합니다. 재시작 시 기존 토큰은 모두 무효화됩니다", algorithm);
+            KeyPair keyPair = JwtKeys.generateKeyPair(algorithm);
+            signingKey = keyPair.getPrivate();
+            publicKey = keyPair.getPublic();
+        }
+
+        verificationKeys.put(currentKeyId, publicKey);
+        jwtProperties.getRetiredPublicKeys()
+                .forEach((kid, encoded) -> verificationKeys.putIfAbsent(kid, JwtKeys.publicKey(encoded, algorithm)));
+        return buildKeySet(currentKeyId, signingKey, verificationKeys);
+    }
+
+    /**
+     * 키 파일로 키 묶음 생성
+     */
+    private KeySet loadFromFile() {
+        Properties properties = new Properties();
+        FileTime modifiedAt;
+        try (Reader reader = Files.newBufferedReader(keysFile, StandardCharsets.UTF_8)) {
+            modifiedAt = Files.getLastModifiedTime(keysFile);
+            properties.load(reader);
+        } catch (IOException ex) {
+            throw new IllegalStateException("JWT 키 파일을 읽을 수 없습니다: " + keysFile, ex);
+        }
+
+        String currentKeyId = properties.getProperty(CURRENT_PROPERTY);
+        Map<String, Key> verificationKeys = new LinkedHashMap<>();
+        Key signingKey = null;
+
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(KEY_PROPERTY_PREFIX)) {
+                continue;
+            }
+            String keyName = name.substring(KEY_PROPERTY_PREFIX.length());
+            String value = properties.getProperty(name);
+
+            if (algorithm == SigningAlgorithm.HMAC) {
+                verificationKeys.put(keyName, JwtKeys.hmacKey(value));
+            } else if (keyName.endsWith(PUBLIC_SUFFIX)) {
+                String kid = keyName.substring(0, keyName.length() - PUBLIC_SUFFIX.length());
+                verificationKeys.put(kid, JwtKeys.publicKey(value, algorithm));
+            } else if (keyName.endsWith(PRIVATE_SUFFIX)
+                    && keyName.equals(currentKeyId + PRIVATE_SUFFIX)) {
+                signingKey = JwtKeys.privateKey(value, algorithm);
+            }
+        }
+
+        if (algorithm == SigningAlgorithm.HMAC && currentKeyId != null) {
+            signingKey = verificationKeys.get(currentKeyId);
+        }
+        if (!StringUtils.hasText(currentKeyId) || signingKey == null || !verificationKeys.containsKey(currentKeyId)) {
+            throw new IllegalStateException("JWT 키 파일에 current 키가 없습니다: " + keysFile);
+        }
+
+        this.keysFileModifiedAt = modifiedAt;
+        return buildKeySet(currentKeyId, signingKey, verificationKeys);
+    }
+
+    private KeySet buildKeySet(String currentKeyId, Key signingKey, Map<String, Key> verificationKeys) {
+        Map<String, Key> keys = Collections.unmodifiableMap(new LinkedHashMap<>(verificationKeys));
+        Key legacyVerificationKey = legacyVerificationKey(keys);
+
+        JwtParser parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String keyId = header.getKeyId();
+                        // kid가 없는 토큰은 키 묶음 도입 이전에 발급된 토큰이므로 설정된 legacy 키로만 검증
+                        if (keyId == null) {
+                            if (legacyVerificationKey == null) {
+                                throw new UnsupportedJwtException("kid가 없는 토큰입니다");
+                            }
+                            return legacyVerificationKey;
+                        }
+                        Key key = keys.get(keyId);
+                        if (key == null) {
+                            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + keyId);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+
+        List<SignedHeader> signedHeaders = new ArrayList<>();
+        List<Map<String, Object>> publicJwks = new ArrayList<>();
+        keys.forEach((keyId, key) -> {
+            if (key instanceof SecretKey secretKey) {
+                signedHeaders.add(new SignedHeader(encodedHeader(keyId, secretKey), secretKey));
+            } else if (key instanceof PublicKey publicKey) {
+                publicJwks.add(Collections.unmodifiableMap(JwtKeys.toJwk(keyId, publicKey, algorithm)));
+            }
+        });
+
+        return new KeySet(
+                versions.incrementAndGet(),
+                currentKeyId,
+                signingKey,
+                keys,
+                parser,
+                List.copyOf(signedHeaders),
+                List.copyOf(publicJwks)
+        );
+    }
+
+    /**
+     * kid 없는 토큰의 검증 키 (jwt.legacy-key-id가 키 묶음에 있을 때만, 없으면 null)
+     * jwt.secret이나 현재 키로 대신 검증하지 않는다
+     */
+    private Key legacyVerificationKey(Map<String, Key> keys) {
+        String legacyKeyId = jwtProperties.getLegacyKeyId();
+        if (!StringUtils.hasText(legacyKeyId)) {
+            return null;
+        }
+        Key legacyKey = keys.get(legacyKeyId);
+        if (legacyKey == null) {
+            log.warn("jwt.legacy-key-id({})가 키 묶음에 없어 kid 없는 토큰을 거부합니다", legacyKeyId);
+        }
+        return legacyKey;
+    }
+
+    /**
+     * JwtProvider와 같은 방식으로 서명했을 때 만들어지는 헤더 세그먼트
+     */
+    private static String encodedHeader(String keyId, SecretKey key) {
+        String probe = Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("probe")
+                .signWith(key)
+                .compact();
+        return probe.substring(0, probe.indexOf('.'));
+    }
+
+    /**
+     * kid 헤더를 포함해 인코딩된 JWS 헤더 세그먼트와 해당 키
+     */
+    public record SignedHeader(String encodedHeader, SecretKey key) {
+    }
+
+    /**
+     * 불변 키 묶음 (교체 시 통째로 바꿔 끼움)
+     */
+    private record KeySet(
+            long version,
+            String currentKeyId,
+            Key signingKey,
+            Map<String, Key> verificationKeys,
+            JwtParser parser,
+            List<SignedHeader> signedHeaders,
+            List<Map<String, Object>> publicJwks
+    ) {
+    }
+}
@@ -0,0 +1,134 @@
+package org.plate.security.jwt;
+
+import io.jsonwebtoken.security.Keys;
+import org.plate.security.config.JwtProperties.SigningAlgorithm;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 변환 유틸리티
+ * 비밀키/PEM 문자열을 키 객체로, 공개키를 JWK로 변환
+ */
+final class JwtKeys {
+
+    private static final int P256_COORDINATE_LENGTH = 32;
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private JwtKeys() {
+    }
+
+    /**
+     * HMAC 비밀키 생성
+     */
+    static SecretKey hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * PKCS#8 개인키 파싱 (PEM 또는 base64 DER)
+     */
+    static PrivateKey privateKey(String encoded, SigningAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException(algorithm + " 개인키 형식이 올바르지 않습니다", ex);
+        }
+    }
+
+    /**
+     * X.509 공개키 파싱 (PEM 또는 base64 DER)
+     */
+    static PublicKey publicKey(String encoded, SigningAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException(algorithm + " 공개키 형식이 올바르지 않습니다", ex);
+        }
+    }
+
+    /**
+     * 임시 키 쌍 생성 (개발 환경에서 키를 설정하지 않은 경우)
+     */
+    static KeyPair generateKeyPair(SigningAlgorithm algorithm) {
+        try {
+            if (algorithm == SigningAlgorithm.ES256) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(algorithm + " 키 쌍을 생성할 수 없습니다", ex);
+        }
+    }
+
+    /**
+     * 공개키를 JWK(RFC 7517) 형식으로 변환
+     */
+    static Map<String, Object> toJwk(String keyId, PublicKey publicKey, SigningAlgorithm algorithm) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+
+        if (algorithm == SigningAlgorithm.ES256) {
+            ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", encoder.encodeToString(unsigned(ecPublicKey.getW().getAffineX(), P256_COORDINATE_LENGTH)));
+            jwk.put("y", encoder.encodeToString(unsigned(ecPublicKey.getW().getAffineY(), P256_COORDINATE_LENGTH)));
+            jwk.put("alg", "ES256");
+        } else {
+            // X.509 인코딩의 마지막 32바이트가 Ed25519 공개키 원본
+            byte[] encoded = publicKey.getEncoded();
+            byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", encoder.encodeToString(raw));
+            jwk.put("alg", "EdDSA");
+        }
+
+        jwk.put("use", "sig");
+        jwk.put("kid", keyId);
+        return jwk;
+    }
+
+    private static KeyFactory keyFactory(SigningAlgorithm algorithm) throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm == SigningAlgorithm.ES256 ? "EC" : "Ed25519");
+    }
+
+    private static byte[] decodePem(String encoded) {
+        if (encoded == null) {
+            throw new IllegalArgumentException("키가 비어 있습니다");
+        }
+        String base64 = encoded
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] result = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, result, length - copy, copy);
+        return result;
+    }
+}
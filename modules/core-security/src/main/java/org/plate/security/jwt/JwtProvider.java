@@ -1,70 +1,182 @@
 package org.plate.security.jwt;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.plate.common.constant.AuthConstants;
 import org.plate.common.enums.TokenType;
 import org.plate.security.config.JwtProperties;
 import org.plate.security.userdetails.UserPrincipal;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증
  * prj-core의 TokenService와 JwtStrategy 역할을 수행
  */
 @Slf4j
-@RequiredArgsConstructor
 public class JwtProvider {
 
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final JwtProperties jwtProperties;
+    private final JwtKeyRing keyRing;
+
+    /**
+     * COMPACT 클레임 프로필 사용 여부
+     */
+    private final boolean compact;
+
+    /**
+     * 빠른 검증 경로 (비활성화 시 null)
+     */
+    private final FastAccessTokenVerifier fastAccessTokenVerifier;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    public JwtProvider(JwtProperties jwtProperties, JwtKeyRing keyRing) {
+        this.jwtProperties = jwtProperties;
+        this.keyRing = keyRing;
+        this.compact = jwtProperties.getClaimsProfile() == JwtProperties.ClaimsProfile.COMPACT;
+        this.fastAccessTokenVerifier = jwtProperties.isFastPathEnabled()
+                ? new FastAccessTokenVerifier(keyRing)
+                : null;
     }
 
     /**
      * Access Token 생성
      */
     public String generateAccessToken(UserPrincipal userPrincipal) {
-        return generateToken(userPrincipal, jwtProperties.getAccessTokenExpiration(), TokenType.ACCESS);
+        return generateToken(userPrincipal, jwtProperties.getAccessTokenExpiration(), TokenType.ACCESS,
+                newTokenId(), null);
     }
 
     /**
      * Refresh Token 생성
      */
     public String generateRefreshToken(UserPrincipal userPrincipal) {
-        return generateToken(userPrincipal, jwtProperties.getRefreshTokenExpiration(), TokenType.REFRESH);
+        return generateToken(userPrincipal, jwtProperties.getRefreshTokenExpiration(), TokenType.REFRESH,
+                newTokenId(), null);
+    }
+
+    /**
+     * 토큰 패밀리에 속한 Refresh Token 생성 (jti는 패밀리 저장소와 맞추기 위해 호출자가 지정)
+     */
+    public String generateRefreshToken(UserPrincipal userPrincipal, String familyId, String tokenId) {
+        return generateToken(userPrincipal, jwtProperties.getRefreshTokenExpiration(), TokenType.REFRESH,
+                tokenId, familyId);
+    }
+
+    /**
+     * 새 토큰 ID (jti, fid) 생성
+     * COMPACT 프로필에서는 UUID 128bit를 base64url 22자로 인코딩
+     */
+    public String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        if (!compact) {
+            return uuid.toString();
+        }
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        return TOKEN_ID_ENCODER.encodeToString(bytes);
     }
 
     /**
      * 토큰 생성 (공통)
      */
-    private String generateToken(UserPrincipal userPrincipal, long expiration, TokenType tokenType) {
+    private String generateToken(
+            UserPrincipal userPrincipal,
+            long expiration,
+            TokenType tokenType,
+            String tokenId,
+            String familyId
+    ) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(keyRing.currentKeyId()).and()
+                .id(tokenId)
+                .subject(userPrincipal.getId())
+                .claims(compact
+                        ? compactClaims(userPrincipal, tokenType, familyId)
+                        : standardClaims(userPrincipal, tokenType, familyId))
+                .expiration(expiryDate);
+
+        if (!compact) {
+            builder.issuer(jwtProperties.getIssuer())
+                    .issuedAt(now);
+        }
+
+        return builder
+                .signWith(keyRing.currentKey())
+                .compact();
+    }
+
+    private Map<String, Object> standardClaims(UserPrincipal userPrincipal, TokenType tokenType, String familyId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put(AuthConstants.CLAIM_EMAIL, userPrincipal.getEmail());
         claims.put(AuthConstants.CLAIM_NAME, userPrincipal.getName());
         claims.put(AuthConstants.CLAIM_ROLE, userPrincipal.getRole());
         claims.put(AuthConstants.CLAIM_TENANT_ID, userPrincipal.getTenantId());
         claims.put(AuthConstants.CLAIM_TYPE, tokenType.name());
+        if (familyId != null) {
+            claims.put(AuthConstants.CLAIM_FAMILY_ID, familyId);
+        }
+        return claims;
+    }
 
-        return Jwts.builder()
-                .subject(userPrincipal.getId())
-                .claims(claims)
-                .issuer(jwtProperties.getIssuer())
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+    /**
+     * 축약 클레임 (name 생략, 기본값 role과 빈 tenantId 생략)
+     */
+    private Map<String, Object> compactClaims(UserPrincipal userPrincipal, TokenType tokenType, String familyId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(AuthConstants.COMPACT_CLAIM_EMAIL, userPrincipal.getEmail());
+        if (userPrincipal.getRole() != null && !AuthConstants.DEFAULT_ROLE.equals(userPrincipal.getRole())) {
+            claims.put(AuthConstants.COMPACT_CLAIM_ROLE, userPrincipal.getRole());
+        }
+        if (userPrincipal.getTenantId() != null) {
+            claims.put(AuthConstants.COMPACT_CLAIM_TENANT_ID, userPrincipal.getTenantId());
+        }
+        claims.put(AuthConstants.COMPACT_CLAIM_TYPE, tokenType.getCode());
+        if (familyId != null) {
+            claims.put(AuthConstants.COMPACT_CLAIM_FAMILY_ID, familyId);
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 검증 결과 반환
+     * 서명/만료/형식 검증에 실패하면 빈 값을 반환
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (fastAccessTokenVerifier != null && token != null) {
+            VerifiedToken verified = fastAccessTokenVerifier.verify(token);
+            if (verified != null) {
+                return Optional.of(verified);
+            }
+        }
+
+        try {
+            return Optional.of(toVerifiedToken(parseToken(token)));
+        } catch (ExpiredJwtException ex) {
+            log.warn("JWT 토큰이 만료되었습니다: {}", ex.getMessage());
+        } catch (UnsupportedJwtException ex) {
+            log.warn("지원되지 않는 JWT 토큰입니다: {}", ex.getMessage());
+        } catch (MalformedJwtException ex) {
+            log.warn("잘못된 형식의 JWT 토큰입니다: {}", ex.getMessage());
+        } catch (SecurityException ex) {
+            log.warn("JWT 서명 검증에 실패했습니다: {}", ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            log.warn("JWT 토큰이 비어있습니다: {}", ex.getMessage());
+        }
+        return Optional.empty();
     }
 
     /**
@@ -79,57 +191,76 @@ public class JwtProvider {
      * 토큰에서 UserPrincipal 추출
      */
     public UserPrincipal getUserPrincipalFromToken(String token) {
-        Claims claims = parseToken(token);
-        return UserPrincipal.of(
-                claims.getSubject(),
-                claims.get(AuthConstants.CLAIM_EMAIL, String.class),
-                claims.get(AuthConstants.CLAIM_NAME, String.class),
-                claims.get(AuthConstants.CLAIM_ROLE, String.class),
-                claims.get(AuthConstants.CLAIM_TENANT_ID, String.class)
-        );
+        return toUserPrincipal(parseToken(token));
     }
 
     /**
      * 토큰 타입 확인
      */
     public TokenType getTokenType(String token) {
-        Claims claims = parseToken(token);
-        String type = claims.get(AuthConstants.CLAIM_TYPE, String.class);
-        return TokenType.valueOf(type);
+        return toTokenType(parseToken(token));
     }
 
     /**
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            parseToken(token);
-            return true;
-        } catch (ExpiredJwtException ex) {
-            log.warn("JWT 토큰이 만료되었습니다: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            log.warn("지원되지 않는 JWT 토큰입니다: {}", ex.getMessage());
-        } catch (MalformedJwtException ex) {
-            log.warn("잘못된 형식의 JWT 토큰입니다: {}", ex.getMessage());
-        } catch (SecurityException ex) {
-            log.warn("JWT 서명 검증에 실패했습니다: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            log.warn("JWT 토큰이 비어있습니다: {}", ex.getMessage());
-        }
-        return false;
+        return verify(token).isPresent();
     }
 
     /**
      * 토큰 파싱
      */
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return keyRing.parser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * 클레임을 검증 결과로 변환
+     */
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                toUserPrincipal(claims),
+                toTokenType(claims),
+                claims.getId(),
+                claim(claims, AuthConstants.CLAIM_FAMILY_ID, AuthConstants.COMPACT_CLAIM_FAMILY_ID),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+    }
+
+    private UserPrincipal toUserPrincipal(Claims claims) {
+        return UserPrincipal.of(
+                claims.getSubject(),
+                claim(claims, AuthConstants.CLAIM_EMAIL, AuthConstants.COMPACT_CLAIM_EMAIL),
+                claims.get(AuthConstants.CLAIM_NAME, String.class),
+                claim(claims, AuthConstants.CLAIM_ROLE, AuthConstants.COMPACT_CLAIM_ROLE),
+                claim(claims, AuthConstants.CLAIM_TENANT_ID, AuthConstants.COMPACT_CLAIM_TENANT_ID)
+        );
+    }
+
+    private TokenType toTokenType(Claims claims) {
+        String type = claims.get(AuthConstants.CLAIM_TYPE, String.class);
+        if (type != null) {
+            return TokenType.valueOf(type);
+        }
+        String code = claims.get(AuthConstants.COMPACT_CLAIM_TYPE, String.class);
+        if (code == null) {
+            throw new MalformedJwtException("토큰 타입 클레임이 없습니다");
+        }
+        return TokenType.fromCode(code);
+    }
+
+    /**
+     * 표준 키로 먼저 찾고 없으면 축약 키로 조회
+     */
+    private String claim(Claims claims, String standardKey, String compactKey) {
+        String value = claims.get(standardKey, String.class);
+        return value != null ? value : claims.get(compactKey, String.class);
+    }
+
     /**
      * 토큰 만료 시간 추출
      */
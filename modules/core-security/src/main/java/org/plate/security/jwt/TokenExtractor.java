@@ -0,0 +1,62 @@
+package org.plate.security.jwt;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.plate.common.constant.AuthConstants;
+import org.springframework.util.StringUtils;
+
+/**
+ * 요청에서 JWT 토큰 추출
+ * prj-core의 JwtStrategy.extractToken과 동일한 로직
+ *
+ * 토큰 추출 우선순위:
+ * 1. Cookie의 accessToken
+ * 2. Authorization 헤더의 Bearer 토큰
+ */
+public final class TokenExtractor {
+
+    private TokenExtractor() {
+    }
+
+    /**
+     * 요청에서 Access Token 추출
+     */
+    public static String extractAccessToken(HttpServletRequest request) {
+        // 1. 쿠키에서 추출 (우선순위 높음)
+        String tokenFromCookie = extractCookie(request, AuthConstants.ACCESS_TOKEN_COOKIE);
+        if (StringUtils.hasText(tokenFromCookie)) {
+            return tokenFromCookie;
+        }
+
+        // 2. Authorization 헤더에서 추출 (fallback)
+        return extractTokenFromHeader(request);
+    }
+
+    /**
+     * 쿠키 값 추출
+     */
+    public static String extractCookie(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Authorization 헤더에서 토큰 추출
+     */
+    private static String extractTokenFromHeader(HttpServletRequest request) {
+        String bearerToken = request.getHeader(AuthConstants.AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(AuthConstants.BEARER_PREFIX)) {
+            return bearerToken.substring(AuthConstants.BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package org.plate.security.jwt;
+
+import org.plate.common.enums.TokenType;
+import org.plate.security.userdetails.UserPrincipal;
+
+/**
+ * 서명 검증이 완료된 토큰 정보
+ * 요청당 한 번만 파싱한 결과를 담아 타입 확인과 사용자 정보 추출에 재사용한다
+ */
+public record VerifiedToken(
+        UserPrincipal principal,
+        TokenType tokenType,
+        String tokenId,
+        String familyId,
+        long expiresAtMillis
+) {
+    /**
+     * Access Token 여부
+     */
+    public boolean isAccessToken() {
+        return tokenType == TokenType.ACCESS;
+    }
+
+    /**
+     * 만료 여부 확인
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,130 @@
+package org.plate.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.plate.security.config.JwtProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 Access Token 캐시
+ *
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며,
+ * 각 항목은 토큰의 exp 시점에 만료되므로 같은 토큰으로 반복 요청 시 서명 검증을 생략한다.
+ * Refresh Token과 검증 실패 결과는 캐시하지 않는다.
+ */
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+    private static final Base64.Encoder KEY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtProvider jwtProvider;
+
+    /**
+     * 비활성화 시 null
+     */
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtProvider jwtProvider, JwtProperties jwtProperties) {
+        this.jwtProvider = jwtProvider;
+
+        JwtProperties.VerificationCache config = jwtProperties.getVerificationCache();
+        this.cache = config.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(config.getMaximumSize())
+                        .expireAfter(new TokenExpiry(jwtProperties.getAccessTokenExpiration()))
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 검증 후 캐시에 저장
+     */
+    public Optional<VerifiedToken> getOrVerify(String token) {
+        if (cache == null) {
+            return jwtProvider.verify(token);
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = jwtProvider.verify(token);
+        verified.filter(VerifiedToken::isAccessToken)
+                .ifPresent(value -> cache.put(key, value));
+        return verified;
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache == null) {
+            return;
+        }
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .description("검증된 토큰 캐시 적중률")
+                .register(registry);
+    }
+
+    private static String digest(String token) {
+        // 가상 스레드는 요청마다 새로 만들어지므로 스레드별로 보관하지 않음
+        MessageDigest messageDigest = Thread.currentThread().isVirtual() ? newDigest() : SHA_256.get();
+        byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return KEY_ENCODER.encodeToString(hash);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", ex);
+        }
+    }
+
+    /**
+     * 토큰의 exp까지만 유지 (최대 Access Token 수명으로 제한)
+     */
+    private record TokenExpiry(long maxTtlMillis) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(remaining, maxTtlMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.plate.security.refresh;
+
+import org.plate.vo.token.TokenPair;
+
+/**
+ * Refresh Token 회전 결과
+ */
+public record RefreshRotation(
+        TokenPair tokenPair,
+        RefreshSession session
+) {
+}
@@ -0,0 +1,27 @@
+package org.plate.security.refresh;
+
+import org.plate.security.userdetails.UserPrincipal;
+
+/**
+ * 토큰 패밀리에 저장하는 사용자 스냅샷
+ * 토큰 갱신 시 DB 조회 없이 새 토큰과 응답을 만드는 데 사용한다
+ */
+public record RefreshSession(
+        String userId,
+        String email,
+        String name,
+        String phone,
+        String role,
+        String tenantId
+) {
+    /**
+     * 메인 테넌트(역할, 테넌트 ID)만 바꾼 스냅샷
+     */
+    public RefreshSession withTenant(String role, String tenantId) {
+        return new RefreshSession(userId, email, name, phone, role, tenantId);
+    }
+
+    public UserPrincipal toUserPrincipal() {
+        return UserPrincipal.of(userId, email, name, role, tenantId);
+    }
+}
@@ -0,0 +1,210 @@
+package org.plate.security.refresh;
+
+import lombok.extern.slf4j.Slf4j;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.jwt.JwtProvider;
+import org.plate.security.jwt.VerifiedToken;
+import org.plate.vo.token.TokenPair;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Redis 기반 Refresh Token 패밀리 관리
+ *
+ * 로그인마다 하나의 패밀리(fid)를 만들고 현재 유효한 Refresh Token의 jti와 사용자 스냅샷을 해시로 저장한다.
+ * 갱신 요청은 Lua 스크립트 한 번으로 확인과 회전을 처리하며,
+ * 이미 회전된(재사용된) 토큰이 제시되면 탈취로 보고 패밀리 전체를 폐기한다.
+ * 사용자별로 패밀리 ID 집합을 두어 탈퇴/비밀번호 변경 시 그 사용자의 모든 패밀리를 폐기할 수 있다.
+ */
+@Slf4j
+public class RefreshTokenFamilyService {
+
+    private static final String FAMILY_KEY_PREFIX = "auth:refresh-family:";
+    private static final String USER_KEY_PREFIX = "auth:refresh-user:";
+
+    private static final String ROTATED = "ROTATED";
+    private static final String REUSED = "REUSED";
+
+    /**
+     * KEYS[1]: 패밀리 키, KEYS[2]: 사용자별 패밀리 집합 키
+     * ARGV: 현재 jti, uid, email, name, phone, role, tenantId, TTL(ms), 패밀리 ID
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'current', ARGV[1], 'uid', ARGV[2], 'email', ARGV[3],
+                'name', ARGV[4], 'phone', ARGV[5], 'role', ARGV[6], 'tenantId', ARGV[7])
+            redis.call('PEXPIRE', KEYS[1], ARGV[8])
+            redis.call('SADD', KEYS[2], ARGV[9])
+            redis.call('PEXPIRE', KEYS[2], ARGV[8])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 패밀리 키, KEYS[2]: 사용자별 패밀리 집합 키
+     * ARGV: 제시된 jti, 새 jti, TTL(ms), 패밀리 ID
+     * 반환: {상태, uid, email, name, phone, role, tenantId}
+     * 패밀리가 없으면(만료/로그아웃/사용자 전체 폐기) 집합에서도 제거한다
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of("""
+            local current = redis.call('HGET', KEYS[1], 'current')
+            if not current then
+                redis.call('SREM', KEYS[2], ARGV[4])
+                return {'MISSING'}
+            end
+            if current ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('SREM', KEYS[2], ARGV[4])
+                return {'REUSED'}
+            end
+            redis.call('HSET', KEYS[1], 'current', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            local s = redis.call('HMGET', KEYS[1], 'uid', 'email', 'name', 'phone', 'role', 'tenantId')
+            return {'ROTATED', s[1] or '', s[2] or '', s[3] or '', s[4] or '', s[5] or '', s[6] or ''}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtProvider jwtProvider;
+    private final JwtProperties jwtProperties;
+
+    public RefreshTokenFamilyService(
+            StringRedisTemplate redisTemplate,
+            JwtProvider jwtProvider,
+            JwtProperties jwtProperties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.jwtProvider = jwtProvider;
+        this.jwtProperties = jwtProperties;
+    }
+
+    public boolean isEnabled() {
+        return jwtProperties.getRefreshRotation().isEnabled();
+    }
+
+    /**
+     * 새 패밀리를 만들고 토큰 쌍 발급
+     */
+    public TokenPair issue(RefreshSession session) {
+        String familyId = jwtProvider.newTokenId();
+        String tokenId = jwtProvider.newTokenId();
+
+        redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + familyId, USER_KEY_PREFIX + session.userId()),
+                tokenId,
+                session.userId(),
+                nullToEmpty(session.email()),
+                nullToEmpty(session.name()),
+                nullToEmpty(session.phone()),
+                nullToEmpty(session.role()),
+                nullToEmpty(session.tenantId()),
+                String.valueOf(jwtProperties.getRefreshTokenExpiration()),
+                familyId
+        );
+
+        return createTokenPair(session, familyId, tokenId);
+    }
+
+    /**
+     * 검증된 Refresh Token으로 패밀리를 회전
+     * 패밀리가 없거나(만료/로그아웃) 재사용이 감지되면 빈 값을 반환
+     */
+    public Optional<RefreshRotation> rotate(VerifiedToken refreshToken) {
+        return rotate(refreshToken, UnaryOperator.identity());
+    }
+
+    /**
+     * 검증된 Refresh Token으로 패밀리를 회전하고, 새 토큰 발급 전에 스냅샷을 갱신
+     * 역할/테넌트가 바뀌었으면 패밀리에도 반영하여 다음 회전부터 사용한다
+     *
+     * @param sessionUpdater 저장된 스냅샷 -> 새 토큰에 담을 스냅샷
+     */
+    public Optional<RefreshRotation> rotate(VerifiedToken refreshToken, UnaryOperator<RefreshSession> sessionUpdater) {
+        String familyId = refreshToken.familyId();
+        String newTokenId = jwtProvider.newTokenId();
+
+        List<?> result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + familyId, USER_KEY_PREFIX + refreshToken.principal().getId()),
+                refreshToken.tokenId(),
+                newTokenId,
+                String.valueOf(jwtProperties.getRefreshTokenExpiration()),
+                familyId
+        );
+
+        String status = result == null || result.isEmpty() ? null : String.valueOf(result.get(0));
+        if (!ROTATED.equals(status)) {
+            if (REUSED.equals(status)) {
+                log.warn("Refresh Token 재사용 감지 - 패밀리 폐기: {}, 사용자: {}",
+                        familyId, refreshToken.principal().getId());
+            }
+            return Optional.empty();
+        }
+
+        RefreshSession stored = new RefreshSession(
+                emptyToNull(result.get(1)),
+                emptyToNull(result.get(2)),
+                emptyToNull(result.get(3)),
+                emptyToNull(result.get(4)),
+                emptyToNull(result.get(5)),
+                emptyToNull(result.get(6))
+        );
+        RefreshSession session = sessionUpdater.apply(stored);
+        if (!Objects.equals(stored.role(), session.role()) || !Objects.equals(stored.tenantId(), session.tenantId())) {
+            redisTemplate.opsForHash().putAll(FAMILY_KEY_PREFIX + familyId, Map.of(
+                    "role", nullToEmpty(session.role()),
+                    "tenantId", nullToEmpty(session.tenantId())
+            ));
+        }
+        return Optional.of(new RefreshRotation(createTokenPair(session, familyId, newTokenId), session));
+    }
+
+    /**
+     * 패밀리 폐기 (로그아웃)
+     */
+    public void revoke(VerifiedToken refreshToken) {
+        if (refreshToken.familyId() != null) {
+            redisTemplate.delete(FAMILY_KEY_PREFIX + refreshToken.familyId());
+        }
+    }
+
+    /**
+     * 사용자의 모든 패밀리 폐기 (탈퇴, 비밀번호 변경)
+     * 이후 그 사용자의 Refresh Token은 모두 갱신에 실패한다
+     */
+    public void revokeAll(String userId) {
+        String userKey = USER_KEY_PREFIX + userId;
+        Set<String> familyIds = redisTemplate.opsForSet().members(userKey);
+        List<String> keys = new ArrayList<>();
+        keys.add(userKey);
+        if (familyIds != null) {
+            familyIds.forEach(familyId -> keys.add(FAMILY_KEY_PREFIX + familyId));
+        }
+        redisTemplate.delete(keys);
+        log.info("사용자 Refresh Token 패밀리 전체 폐기 - 사용자: {}, 패밀리: {}개",
+                userId, familyIds != null ? familyIds.size() : 0);
+    }
+
+    private TokenPair createTokenPair(RefreshSession session, String familyId, String tokenId) {
+        return TokenPair.of(
+                jwtProvider.generateAccessToken(session.toUserPrincipal()),
+                jwtProvider.generateRefreshToken(session.toUserPrincipal(), familyId, tokenId)
+        );
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(Object value) {
+        return value == null || "".equals(value) ? null : value.toString();
+    }
+}
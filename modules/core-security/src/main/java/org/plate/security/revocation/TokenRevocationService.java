@@ -0,0 +1,250 @@
+package org.plate.security.revocation;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.jwt.VerifiedToken;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 기반 토큰 폐기 저장소
+ *
+ * 폐기된 토큰은 jti 키로 Redis에 저장하며 TTL은 토큰의 남은 수명과 같다.
+ * 각 노드는 폐기 목록을 Bloom 필터로 들고 있다가 필터가 "있을 수 있음"이라고 답할 때만 Redis를 조회하므로,
+ * 폐기되지 않은 대부분의 요청은 Redis 왕복 없이 통과한다.
+ *
+ * 필터 갱신:
+ * - 증분: 폐기 시 스트림에 jti를 추가하고, 각 노드는 마지막으로 읽은 ID 이후만 주기적으로 읽는다
+ * - 전체: 일정 주기마다 폐기 키를 SCAN하여 만료된 항목이 빠진 새 필터로 교체한다
+ * 다른 노드의 폐기는 최대 refresh-interval 이후 반영된다.
+ */
+@Slf4j
+public class TokenRevocationService implements MeterBinder, AutoCloseable {
+
+    private static final String KEY_PREFIX = "auth:revoked:";
+    private static final String STREAM_KEY = "auth:revocations";
+    private static final String FIELD_JTI = "jti";
+    private static final String FIELD_EXP = "exp";
+    private static final String INITIAL_OFFSET = "0-0";
+    private static final int READ_BATCH_SIZE = 1_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtProperties.Revocation config;
+
+    /**
+     * 비활성화 시 null
+     */
+    private final ScheduledExecutorService refresher;
+
+    private volatile BloomFilter filter;
+
+    /**
+     * 첫 전체 갱신이 끝나기 전에는 필터를 신뢰하지 않고 Redis로 확인
+     */
+    private volatile boolean ready;
+
+    private String lastRecordId = INITIAL_OFFSET;
+    private long lastRebuiltAt;
+
+    private final LongAdder filterMisses = new LongAdder();
+    private final LongAdder redisLookups = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+    private final LongAdder redisErrors = new LongAdder();
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate, JwtProperties jwtProperties) {
+        this.redisTemplate = redisTemplate;
+        this.config = jwtProperties.getRevocation();
+        this.filter = newFilter();
+
+        if (config.isEnabled()) {
+            long interval = config.getRefreshInterval().toMillis();
+            this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jwt-revocation-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.refresher.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.refresher = null;
+        }
+    }
+
+    /**
+     * 토큰 폐기
+     * 이미 만료된 토큰이나 jti가 없는 토큰은 무시
+     */
+    public void revoke(VerifiedToken token) {
+        if (!config.isEnabled() || token.tokenId() == null) {
+            return;
+        }
+        long remaining = token.expiresAtMillis() - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + token.tokenId(), "1", Duration.ofMillis(remaining));
+        redisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                FIELD_JTI, token.tokenId(),
+                FIELD_EXP, String.valueOf(token.expiresAtMillis())
+        )).withStreamKey(STREAM_KEY));
+
+        // 이 노드에는 즉시 반영
+        filter.put(token.tokenId());
+        log.info("토큰 폐기 - jti: {}", token.tokenId());
+    }
+
+    /**
+     * 폐기 여부 확인
+     * Bloom 필터에 없으면 Redis를 조회하지 않는다
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (!config.isEnabled() || token.tokenId() == null) {
+            return false;
+        }
+        if (ready && !filter.mightContain(token.tokenId())) {
+            filterMisses.increment();
+            return false;
+        }
+
+        redisLookups.increment();
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + token.tokenId()));
+            if (revoked) {
+                revokedHits.increment();
+            }
+            return revoked;
+        } catch (RuntimeException ex) {
+            redisErrors.increment();
+            log.warn("토큰 폐기 여부를 확인할 수 없습니다 - jti: {}, {}", token.tokenId(), ex.getMessage());
+            return !config.isFailOpen();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.revocation.checks", filterMisses, LongAdder::sum)
+                .tag("result", "filter_miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.checks", redisLookups, LongAdder::sum)
+                .tag("result", "redis_lookup")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.checks", revokedHits, LongAdder::sum)
+                .tag("result", "revoked")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.checks", redisErrors, LongAdder::sum)
+                .tag("result", "error")
+                .register(registry);
+        Gauge.builder("jwt.revocation.filter.size", this, service -> service.filter.approximateSize())
+                .description("Bloom 필터에 추가된 jti 수 (근사치)")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * 필터 갱신 (refresher 스레드에서만 호출)
+     */
+    private void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            if (!ready || now - lastRebuiltAt >= config.getRebuildInterval().toMillis()) {
+                rebuild(now);
+            } else {
+                readStream(filter, now);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("토큰 폐기 목록 갱신 실패: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 폐기 키 전체를 다시 읽어 새 필터로 교체하고 스트림을 정리
+     */
+    private void rebuild(long now) {
+        // SCAN 도중 추가된 폐기는 이후 증분 갱신에서 읽도록 시작 시점의 스트림 위치를 먼저 기록
+        String offset = latestRecordId();
+
+        BloomFilter rebuilt = newFilter();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(READ_BATCH_SIZE)
+                .build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                rebuilt.put(keys.next().substring(KEY_PREFIX.length()));
+            }
+        }
+
+        lastRecordId = offset;
+        readStream(rebuilt, now);
+        filter = rebuilt;
+        ready = true;
+        lastRebuiltAt = now;
+
+        redisTemplate.opsForStream().trim(STREAM_KEY, config.getMaxStreamLength(), true);
+        log.debug("토큰 폐기 필터 재구성 완료 - 항목 수: {}", rebuilt.approximateSize());
+    }
+
+    /**
+     * 마지막으로 읽은 위치 이후의 스트림 항목을 필터에 추가
+     */
+    private void readStream(BloomFilter target, long now) {
+        List<MapRecord<String, Object, Object>> records;
+        do {
+            records = redisTemplate.opsForStream().read(
+                    StreamReadOptions.empty().count(READ_BATCH_SIZE),
+                    StreamOffset.create(STREAM_KEY, ReadOffset.from(lastRecordId))
+            );
+            if (records == null || records.isEmpty()) {
+                return;
+            }
+            for (MapRecord<String, Object, Object> record : records) {
+                Map<Object, Object> value = record.getValue();
+                Object jti = value.get(FIELD_JTI);
+                Object exp = value.get(FIELD_EXP);
+                if (jti != null && (exp == null || Long.parseLong(exp.toString()) > now)) {
+                    target.put(jti.toString());
+                }
+                lastRecordId = record.getId().getValue();
+            }
+        } while (records.size() >= READ_BATCH_SIZE);
+    }
+
+    private String latestRecordId() {
+        List<MapRecord<String, Object, Object>> latest = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        if (latest == null || latest.isEmpty()) {
+            return INITIAL_OFFSET;
+        }
+        return latest.get(0).getId().getValue();
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(config.getExpectedInsertions(), config.getFalsePositiveRate());
+    }
+}
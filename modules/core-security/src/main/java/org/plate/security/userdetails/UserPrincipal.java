@@ -2,13 +2,13 @@ package org.plate.security.userdetails;
 
 import lombok.Builder;
 import lombok.Getter;
-import org.plate.common.constant.AuthConstants;
+import org.plate.common.enums.Permission;
+import org.plate.security.authorization.RoleDefinition;
+import org.plate.security.authorization.RoleRegistry;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
 
 /**
  * 인증된 사용자 정보
@@ -24,9 +24,28 @@ public class UserPrincipal implements UserDetails {
     private final String role;
     private final String tenantId;
 
+    /**
+     * 역할에 해당하는 공유 권한 정의 (RoleRegistry에서 조회)
+     */
+    private final RoleDefinition roleDefinition;
+
+    /**
+     * 역할별로 공유하는 불변 권한 목록 (호출마다 새로 만들지 않음)
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        return getRoleDefinition().authorities();
+    }
+
+    public RoleDefinition getRoleDefinition() {
+        return roleDefinition != null ? roleDefinition : RoleRegistry.resolve(role);
+    }
+
+    /**
+     * 권한 보유 여부
+     */
+    public boolean hasPermission(Permission permission) {
+        return getRoleDefinition().hasPermission(permission);
     }
 
     @Override
@@ -63,12 +82,14 @@ public class UserPrincipal implements UserDetails {
      * JWT 클레임에서 UserPrincipal 생성
      */
     public static UserPrincipal of(String id, String email, String name, String role, String tenantId) {
+        RoleDefinition roleDefinition = RoleRegistry.resolve(role);
         return UserPrincipal.builder()
                 .id(id)
                 .email(email)
                 .name(name)
-                .role(role != null ? role : AuthConstants.DEFAULT_ROLE)
+                .role(roleDefinition.name())
                 .tenantId(tenantId)
+                .roleDefinition(roleDefinition)
                 .build();
     }
 }
@@ -0,0 +1,50 @@
+package org.plate.security.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 인증 없이 접근 가능한 경로 매처
+ *
+ * 경로 패턴을 기동 시 한 번 컴파일하여 SecurityConfig의 permitAll 규칙과
+ * JwtAuthenticationFilter의 필터 생략 판단에 함께 사용한다.
+ */
+public class PublicEndpointMatcher implements RequestMatcher {
+
+    private final List<PathPattern> patterns;
+
+    public PublicEndpointMatcher(String... patterns) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.patterns = Arrays.stream(patterns)
+                .map(parser::parse)
+                .toList();
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String path = contextPath.isEmpty() || !requestUri.startsWith(contextPath)
+                ? requestUri
+                : requestUri.substring(contextPath.length());
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patterns.get(i).matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "PublicEndpointMatcher " + patterns;
+    }
+}
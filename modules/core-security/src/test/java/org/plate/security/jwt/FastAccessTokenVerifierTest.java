@@ -0,0 +1,184 @@
+package org.plate.security.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.plate.common.enums.TokenType;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.userdetails.UserPrincipal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastAccessTokenVerifierTest {
+
+    /**
+     * 32~47바이트 비밀키 -> HS256 (서명 32바이트, base64url 43자)
+     */
+    private static final String SECRET = "test-secret-key-for-fast-verifier-0123456789";
+    private static final String OTHER_SECRET = "test-secret-key-for-fast-verifier-9876543210";
+    private static final String BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    private static final UserPrincipal PRINCIPAL =
+            UserPrincipal.of("user-1", "user@plate.dev", "사용자", "ADMIN", "tenant-1");
+
+    private JwtKeyRing keyRing;
+
+    @AfterEach
+    void tearDown() {
+        if (keyRing != null) {
+            keyRing.close();
+        }
+    }
+
+    @Test
+    @DisplayName("직접 발급한 Access Token은 빠른 경로로 검증한다")
+    void verifiesAccessToken() {
+        JwtProvider provider = provider(properties(SECRET));
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+
+        VerifiedToken verified = verifier.verify(provider.generateAccessToken(PRINCIPAL));
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.tokenType()).isEqualTo(TokenType.ACCESS);
+        assertThat(verified.tokenId()).isNotBlank();
+        assertThat(verified.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+        assertThat(verified.principal().getId()).isEqualTo("user-1");
+        assertThat(verified.principal().getEmail()).isEqualTo("user@plate.dev");
+        assertThat(verified.principal().getRole()).isEqualTo("ADMIN");
+        assertThat(verified.principal().getTenantId()).isEqualTo("tenant-1");
+    }
+
+    @Test
+    @DisplayName("축약 클레임 프로필의 Access Token도 검증한다")
+    void verifiesCompactAccessToken() {
+        JwtProperties properties = properties(SECRET);
+        properties.setClaimsProfile(JwtProperties.ClaimsProfile.COMPACT);
+        JwtProvider provider = provider(properties);
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+
+        VerifiedToken verified = verifier.verify(provider.generateAccessToken(PRINCIPAL));
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.principal().getEmail()).isEqualTo("user@plate.dev");
+        assertThat(verified.principal().getTenantId()).isEqualTo("tenant-1");
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 거부한다")
+    void rejectsTamperedSignature() {
+        JwtProvider provider = provider(properties(SECRET));
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+        String token = provider.generateAccessToken(PRINCIPAL);
+
+        int signatureStart = token.lastIndexOf('.') + 1;
+        String tampered = replaceChar(token, signatureStart + 5, 1);
+
+        assertThat(verifier.verify(tampered)).isNull();
+    }
+
+    @Test
+    @DisplayName("서명 끝의 사용하지 않는 비트만 바꾼 토큰은 거부한다 (서명 가변성)")
+    void rejectsNonCanonicalSignatureEncoding() {
+        JwtProvider provider = provider(properties(SECRET));
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+        String token = provider.generateAccessToken(PRINCIPAL);
+
+        // HS256 서명 32바이트는 43자(258비트)로 인코딩되어 마지막 문자의 하위 2비트를 사용하지 않는다
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        int unusedBits = signature.length() * 6 - Base64.getUrlDecoder().decode(signature).length * 8;
+        assertThat(unusedBits).isEqualTo(2);
+
+        String tampered = replaceChar(token, token.length() - 1, 1);
+        String tamperedSignature = tampered.substring(tampered.lastIndexOf('.') + 1);
+        assertThat(Base64.getUrlDecoder().decode(tamperedSignature))
+                .isEqualTo(Base64.getUrlDecoder().decode(signature));
+
+        assertThat(verifier.verify(token)).isNotNull();
+        assertThat(verifier.verify(tampered)).isNull();
+    }
+
+    @Test
+    @DisplayName("페이로드가 바뀐 토큰은 거부한다")
+    void rejectsTamperedPayload() {
+        JwtProvider provider = provider(properties(SECRET));
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+        String token = provider.generateAccessToken(PRINCIPAL);
+        String[] parts = token.split("\\.");
+
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("user-1", "user-2");
+        String forged = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThat(verifier.verify(forged)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 비밀키로 서명한 토큰은 거부한다")
+    void rejectsTokenSignedWithOtherKey() {
+        String foreignToken;
+        try (JwtKeyRing foreignKeyRing = new JwtKeyRing(properties(OTHER_SECRET))) {
+            foreignToken = new JwtProvider(properties(OTHER_SECRET), foreignKeyRing).generateAccessToken(PRINCIPAL);
+        }
+        provider(properties(SECRET));
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+
+        assertThat(verifier.verify(foreignToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 빠른 경로에서 통과시키지 않는다")
+    void rejectsExpiredToken() {
+        JwtProperties properties = properties(SECRET);
+        properties.setAccessTokenExpiration(-60_000);
+        JwtProvider provider = provider(properties);
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+
+        assertThat(verifier.verify(provider.generateAccessToken(PRINCIPAL))).isNull();
+    }
+
+    @Test
+    @DisplayName("Refresh Token은 빠른 경로에서 통과시키지 않는다")
+    void rejectsRefreshToken() {
+        JwtProvider provider = provider(properties(SECRET));
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+
+        assertThat(verifier.verify(provider.generateRefreshToken(PRINCIPAL))).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 거부한다")
+    void rejectsMalformedToken() {
+        provider(properties(SECRET));
+        FastAccessTokenVerifier verifier = new FastAccessTokenVerifier(keyRing);
+
+        assertThat(verifier.verify("")).isNull();
+        assertThat(verifier.verify("a.b")).isNull();
+        assertThat(verifier.verify("a.b.c.d")).isNull();
+        assertThat(verifier.verify("a.b.c")).isNull();
+    }
+
+    private JwtProvider provider(JwtProperties properties) {
+        keyRing = new JwtKeyRing(properties);
+        return new JwtProvider(properties, keyRing);
+    }
+
+    private static JwtProperties properties(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        return properties;
+    }
+
+    /**
+     * index 위치의 base64url 문자를 값의 하위 비트만 바꾼 문자로 교체
+     */
+    private static String replaceChar(String token, int index, int xor) {
+        int value = BASE64URL.indexOf(token.charAt(index));
+        char replacement = BASE64URL.charAt(value ^ xor);
+        return token.substring(0, index) + replacement + token.substring(index + 1);
+    }
+}
@@ -0,0 +1,121 @@
+package org.plate.security.jwt;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.plate.security.config.JwtProperties;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    /**
+     * application.yml의 공개된 개발용 기본값
+     */
+    private static final String PUBLIC_DEFAULT_SECRET =
+            "your-256-bit-secret-key-for-development-only-change-in-production-minimum-32-characters";
+    private static final String OLD_SECRET = "old-secret-key-for-jwt-key-ring-test-0123456789";
+    private static final String NEW_SECRET = "new-secret-key-for-jwt-key-ring-test-9876543210";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("legacy-key-id가 없으면 kid 없는 토큰은 현재 키로 서명되어도 거부한다")
+    void rejectsKidlessTokenWithoutLegacyKey() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(OLD_SECRET);
+
+        try (JwtKeyRing keyRing = new JwtKeyRing(properties)) {
+            String token = kidlessToken(OLD_SECRET);
+
+            assertThatThrownBy(() -> keyRing.parser().parseSignedClaims(token))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("legacy-key-id를 설정하면 교체 후에도 그 키로 서명된 kid 없는 토큰을 검증한다")
+    void verifiesKidlessTokenWithConfiguredLegacyKey() throws IOException {
+        JwtProperties properties = keysFileProperties("""
+                current=2025-01
+                keys.2025-01=%s
+                keys.primary=%s
+                """.formatted(NEW_SECRET, OLD_SECRET));
+        properties.setLegacyKeyId("primary");
+
+        try (JwtKeyRing keyRing = new JwtKeyRing(properties)) {
+            assertThat(keyRing.parser().parseSignedClaims(kidlessToken(OLD_SECRET)).getPayload().getSubject())
+                    .isEqualTo("user-1");
+            // 현재 키로 서명된 kid 없는 토큰은 legacy 키가 아니므로 거부
+            assertThatThrownBy(() -> keyRing.parser().parseSignedClaims(kidlessToken(NEW_SECRET)))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("키 파일 모드에서는 legacy kid가 파일에 없어도 jwt.secret으로 대신 검증하지 않는다")
+    void keysFileModeNeverFallsBackToSecret() throws IOException {
+        JwtProperties properties = keysFileProperties("""
+                current=2025-01
+                keys.2025-01=%s
+                """.formatted(NEW_SECRET));
+        properties.setSecret(PUBLIC_DEFAULT_SECRET);
+        properties.setLegacyKeyId("primary");
+
+        try (JwtKeyRing keyRing = new JwtKeyRing(properties)) {
+            assertThatThrownBy(() -> keyRing.parser().parseSignedClaims(kidlessToken(PUBLIC_DEFAULT_SECRET)))
+                    .isInstanceOf(JwtException.class);
+            assertThatThrownBy(() -> keyRing.parser().parseSignedClaims(kidlessToken(NEW_SECRET)))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("kid가 있는 토큰은 현재 키와 폐기 예정 키로 검증한다")
+    void verifiesTokenWithKnownKid() throws IOException {
+        JwtProperties properties = keysFileProperties("""
+                current=2025-01
+                keys.2025-01=%s
+                keys.2024-07=%s
+                """.formatted(NEW_SECRET, OLD_SECRET));
+
+        try (JwtKeyRing keyRing = new JwtKeyRing(properties)) {
+            assertThat(keyRing.parser().parseSignedClaims(token("2025-01", NEW_SECRET))).isNotNull();
+            assertThat(keyRing.parser().parseSignedClaims(token("2024-07", OLD_SECRET))).isNotNull();
+            assertThatThrownBy(() -> keyRing.parser().parseSignedClaims(token("unknown", OLD_SECRET)))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    private JwtProperties keysFileProperties(String content) throws IOException {
+        Path keysFile = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(keysFile, content, StandardCharsets.UTF_8);
+        JwtProperties properties = new JwtProperties();
+        properties.setKeysFile(keysFile.toString());
+        return properties;
+    }
+
+    private static String kidlessToken(String secret) {
+        return Jwts.builder()
+                .subject("user-1")
+                .signWith(JwtKeys.hmacKey(secret))
+                .compact();
+    }
+
+    private static String token(String keyId, String secret) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("user-1")
+                .signWith(JwtKeys.hmacKey(secret))
+                .compact();
+    }
+}
@@ -0,0 +1,155 @@
+package org.plate.security.refresh;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.jwt.JwtKeyRing;
+import org.plate.security.jwt.JwtProvider;
+import org.plate.security.jwt.VerifiedToken;
+import org.plate.vo.token.TokenPair;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 패밀리 발급/회전 Lua 스크립트를 실제 Redis에서 실행하는 테스트
+ * REDIS_HOST가 설정된 경우에만 실행한다 (예: REDIS_HOST=localhost ./gradlew test)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RefreshTokenFamilyRedisTest {
+
+    private static final String SECRET = "test-secret-key-for-refresh-token-family-redis-0123456789";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private JwtKeyRing keyRing;
+    private JwtProvider jwtProvider;
+    private RefreshTokenFamilyService service;
+    private String userId;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        String password = System.getenv("REDIS_PASSWORD");
+        if (password != null && !password.isEmpty()) {
+            configuration.setPassword(password);
+        }
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        keyRing = new JwtKeyRing(jwtProperties);
+        jwtProvider = new JwtProvider(jwtProperties, keyRing);
+        service = new RefreshTokenFamilyService(redisTemplate, jwtProvider, jwtProperties);
+        userId = "test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.revokeAll(userId);
+        keyRing.close();
+    }
+
+    @Test
+    @DisplayName("발급한 Refresh Token으로 회전하면 같은 패밀리의 새 토큰과 스냅샷을 받는다")
+    void rotatesIssuedFamily() {
+        TokenPair issued = service.issue(session(userId));
+        VerifiedToken refreshToken = verify(issued.refreshToken());
+
+        Optional<RefreshRotation> rotation = service.rotate(refreshToken);
+
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().session()).isEqualTo(session(userId));
+        VerifiedToken rotated = verify(rotation.get().tokenPair().refreshToken());
+        assertThat(rotated.familyId()).isEqualTo(refreshToken.familyId());
+        assertThat(rotated.tokenId()).isNotEqualTo(refreshToken.tokenId());
+    }
+
+    @Test
+    @DisplayName("이미 회전된 토큰을 다시 쓰면 패밀리 전체를 폐기한다")
+    void reuseRevokesWholeFamily() {
+        VerifiedToken first = verify(service.issue(session(userId)).refreshToken());
+        VerifiedToken second = verify(service.rotate(first).orElseThrow().tokenPair().refreshToken());
+
+        // 탈취된 이전 토큰 재사용
+        assertThat(service.rotate(first)).isEmpty();
+
+        // 정상 사용자가 가진 최신 토큰도 더 이상 회전되지 않는다
+        assertThat(service.rotate(second)).isEmpty();
+        assertThat(redisTemplate.opsForSet().isMember("auth:refresh-user:" + userId, first.familyId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 폐기한 패밀리는 회전되지 않는다")
+    void revokedFamilyCannotRotate() {
+        VerifiedToken refreshToken = verify(service.issue(session(userId)).refreshToken());
+
+        service.revoke(refreshToken);
+
+        assertThat(service.rotate(refreshToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 전체 폐기는 그 사용자의 모든 패밀리만 폐기한다")
+    void revokeAllRevokesOnlyThatUser() {
+        VerifiedToken phone = verify(service.issue(session(userId)).refreshToken());
+        VerifiedToken laptop = verify(service.issue(session(userId)).refreshToken());
+        String otherUserId = "test-" + UUID.randomUUID();
+        VerifiedToken other = verify(service.issue(session(otherUserId)).refreshToken());
+
+        try {
+            service.revokeAll(userId);
+
+            assertThat(service.rotate(phone)).isEmpty();
+            assertThat(service.rotate(laptop)).isEmpty();
+            assertThat(service.rotate(other)).isPresent();
+        } finally {
+            service.revokeAll(otherUserId);
+        }
+    }
+
+    @Test
+    @DisplayName("회전 중 바뀐 역할/테넌트는 다음 회전의 스냅샷에 남는다")
+    void updatedTenantIsKeptForNextRotation() {
+        VerifiedToken first = verify(service.issue(session(userId)).refreshToken());
+
+        RefreshRotation updated = service.rotate(first, session -> session.withTenant("ADMIN", "tenant-1"))
+                .orElseThrow();
+        RefreshRotation next = service.rotate(verify(updated.tokenPair().refreshToken())).orElseThrow();
+
+        assertThat(next.session().role()).isEqualTo("ADMIN");
+        assertThat(next.session().tenantId()).isEqualTo("tenant-1");
+    }
+
+    private VerifiedToken verify(String token) {
+        return jwtProvider.verify(token).orElseThrow();
+    }
+
+    private static RefreshSession session(String userId) {
+        return new RefreshSession(userId, "user@plate.dev", "사용자", "010-0000-0000", null, null);
+    }
+}
@@ -0,0 +1,164 @@
+package org.plate.security.refresh;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.plate.common.enums.TokenType;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.jwt.JwtKeyRing;
+import org.plate.security.jwt.JwtProvider;
+import org.plate.security.jwt.VerifiedToken;
+import org.plate.security.userdetails.UserPrincipal;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 응답을 고정한 RefreshTokenFamilyService 단위 테스트
+ * 스크립트 자체의 동작은 RefreshTokenFamilyRedisTest에서 실제 Redis로 확인한다
+ */
+class RefreshTokenFamilyServiceTest {
+
+    private static final String SECRET = "test-secret-key-for-refresh-token-family-service-0123456789";
+
+    private StringRedisTemplate redisTemplate;
+    private JwtKeyRing keyRing;
+    private JwtProvider jwtProvider;
+    private RefreshTokenFamilyService service;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        keyRing = new JwtKeyRing(jwtProperties);
+        jwtProvider = new JwtProvider(jwtProperties, keyRing);
+        redisTemplate = mock(StringRedisTemplate.class);
+        service = new RefreshTokenFamilyService(redisTemplate, jwtProvider, jwtProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyRing.close();
+    }
+
+    @Test
+    @DisplayName("발급 시 패밀리 키와 사용자별 집합 키를 함께 넘긴다")
+    @SuppressWarnings("unchecked")
+    void issuePassesFamilyAndUserKeys() {
+        doReturn(1L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        service.issue(new RefreshSession("user-1", "user@plate.dev", "사용자", null, null, null));
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).hasSize(2);
+        assertThat(keys.getValue().get(0)).startsWith("auth:refresh-family:");
+        assertThat(keys.getValue().get(1)).isEqualTo("auth:refresh-user:user-1");
+        // 마지막 인자는 사용자별 집합에 넣을 패밀리 ID
+        String familyId = keys.getValue().get(0).substring("auth:refresh-family:".length());
+        Object[] values = args.getValue();
+        assertThat(values[values.length - 1]).isEqualTo(familyId);
+    }
+
+    @Test
+    @DisplayName("재사용이 감지되면 새 토큰을 발급하지 않는다")
+    void reusedFamilyReturnsEmpty() {
+        doReturn(List.of("REUSED")).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        assertThat(service.rotate(refreshToken("user-1", "family-1", "jti-1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("패밀리가 없으면(만료/로그아웃) 새 토큰을 발급하지 않는다")
+    void missingFamilyReturnsEmpty() {
+        doReturn(List.of("MISSING")).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        assertThat(service.rotate(refreshToken("user-1", "family-1", "jti-1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회전 성공 시 저장된 스냅샷으로 같은 패밀리의 토큰 쌍을 만든다")
+    void rotatedFamilyIssuesTokensFromSnapshot() {
+        doReturn(List.of("ROTATED", "user-1", "user@plate.dev", "사용자", "010-0000-0000", "ADMIN", ""))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        Optional<RefreshRotation> rotation = service.rotate(refreshToken("user-1", "family-1", "jti-1"));
+
+        assertThat(rotation).isPresent();
+        RefreshSession session = rotation.get().session();
+        assertThat(session.userId()).isEqualTo("user-1");
+        assertThat(session.role()).isEqualTo("ADMIN");
+        assertThat(session.tenantId()).isNull();
+
+        VerifiedToken newRefreshToken = jwtProvider.verify(rotation.get().tokenPair().refreshToken()).orElseThrow();
+        assertThat(newRefreshToken.familyId()).isEqualTo("family-1");
+        assertThat(newRefreshToken.tokenId()).isNotEqualTo("jti-1");
+        verify(redisTemplate, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("스냅샷의 역할/테넌트가 바뀌면 패밀리에 반영한다")
+    @SuppressWarnings("unchecked")
+    void changedTenantIsWrittenBack() {
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        doReturn(List.of("ROTATED", "user-1", "user@plate.dev", "사용자", "", "", ""))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        Optional<RefreshRotation> rotation = service.rotate(
+                refreshToken("user-1", "family-1", "jti-1"),
+                session -> session.withTenant("ADMIN", "tenant-1"));
+
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().session().tenantId()).isEqualTo("tenant-1");
+        verify(hashOperations).putAll(eq("auth:refresh-family:family-1"), anyMap());
+    }
+
+    @Test
+    @DisplayName("사용자 전체 폐기 시 집합의 모든 패밀리와 집합 키를 삭제한다")
+    @SuppressWarnings("unchecked")
+    void revokeAllDeletesEveryFamilyOfUser() {
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("auth:refresh-user:user-1")).thenReturn(Set.of("family-1", "family-2"));
+
+        service.revokeAll("user-1");
+
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(redisTemplate).delete(keys.capture());
+        assertThat(keys.getValue()).containsExactlyInAnyOrder(
+                "auth:refresh-user:user-1",
+                "auth:refresh-family:family-1",
+                "auth:refresh-family:family-2");
+    }
+
+    private static VerifiedToken refreshToken(String userId, String familyId, String tokenId) {
+        return new VerifiedToken(
+                UserPrincipal.of(userId, "user@plate.dev", "사용자", null, null),
+                TokenType.REFRESH,
+                tokenId,
+                familyId,
+                System.currentTimeMillis() + 60_000
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package org.plate.security.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수 있음으로 판단한다 (거짓 음성 없음)")
+    void hasNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+        }
+        assertThat(filter.approximateSize()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 어떤 값도 포함하지 않는다")
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        assertThat(filter.mightContain("jti-1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.approximateSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("예상 삽입 수만큼 채워도 오탐률이 설정값 근처에 머문다")
+    void keepsFalsePositiveRateNearConfiguredValue() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("크기가 범위를 벗어난 설정도 동작하는 필터로 만든다")
+    void clampsOutOfRangeSettings() {
+        BloomFilter filter = BloomFilter.create(0, 0.9);
+
+        filter.put("jti-1");
+
+        assertThat(filter.mightContain("jti-1")).isTrue();
+    }
+}
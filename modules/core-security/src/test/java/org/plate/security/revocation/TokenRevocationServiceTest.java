@@ -0,0 +1,180 @@
+package org.plate.security.revocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.plate.common.enums.TokenType;
+import org.plate.security.config.JwtProperties;
+import org.plate.security.jwt.VerifiedToken;
+import org.plate.security.userdetails.UserPrincipal;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+
+    private static final String KEY_PREFIX = "auth:revoked:";
+
+    private StringRedisTemplate redisTemplate;
+    private JwtProperties jwtProperties;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        jwtProperties = new JwtProperties();
+        jwtProperties.getRevocation().setExpectedInsertions(1_000);
+        jwtProperties.getRevocation().setRefreshInterval(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 시 Redis를 사용하지 않는다")
+    void disabledSkipsRedis() {
+        jwtProperties.getRevocation().setEnabled(false);
+        service = new TokenRevocationService(redisTemplate, jwtProperties);
+
+        service.revoke(token("jti-1"));
+
+        assertThat(service.isRevoked(token("jti-1"))).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("필터가 준비되기 전에는 Redis로 폐기 여부를 확인한다")
+    void checksRedisBeforeFilterIsReady() {
+        // 필터 재구성이 실패하여 준비 상태가 되지 않는다
+        when(redisTemplate.opsForStream()).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.hasKey(KEY_PREFIX + "jti-1")).thenReturn(true);
+        service = new TokenRevocationService(redisTemplate, jwtProperties);
+
+        assertThat(service.isRevoked(token("jti-1"))).isTrue();
+        assertThat(service.isRevoked(token("jti-2"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 기본적으로 토큰을 거부한다")
+    void failsClosedOnRedisError() {
+        when(redisTemplate.opsForStream()).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        service = new TokenRevocationService(redisTemplate, jwtProperties);
+
+        assertThat(service.isRevoked(token("jti-1"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("fail-open 설정 시 Redis 장애에도 토큰을 허용한다")
+    void failsOpenWhenConfigured() {
+        jwtProperties.getRevocation().setFailOpen(true);
+        when(redisTemplate.opsForStream()).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        service = new TokenRevocationService(redisTemplate, jwtProperties);
+
+        assertThat(service.isRevoked(token("jti-1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰은 Redis 조회 없이 통과시키고, 폐기된 토큰은 Redis로 확인한다")
+    void filterSkipsRedisForUnknownTokens() {
+        StreamOperations<String, Object, Object> streamOperations = stubReadyRedis(KEY_PREFIX + "jti-scanned");
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        service = new TokenRevocationService(redisTemplate, jwtProperties);
+        // 재구성이 끝나면 스트림을 정리한다
+        verify(streamOperations, timeout(5_000)).trim(anyString(), anyLong(), anyBoolean());
+
+        assertThat(service.isRevoked(token("jti-active"))).isFalse();
+        verify(redisTemplate, never()).hasKey(KEY_PREFIX + "jti-active");
+
+        assertThat(service.isRevoked(token("jti-scanned"))).isTrue();
+        verify(redisTemplate).hasKey(KEY_PREFIX + "jti-scanned");
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 이 노드의 필터에 즉시 반영된다")
+    void revokeUpdatesLocalFilter() {
+        StreamOperations<String, Object, Object> streamOperations = stubReadyRedis();
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey(KEY_PREFIX + "jti-1")).thenReturn(true);
+        service = new TokenRevocationService(redisTemplate, jwtProperties);
+        verify(streamOperations, timeout(5_000)).trim(anyString(), anyLong(), anyBoolean());
+
+        service.revoke(token("jti-1"));
+
+        verify(valueOperations).set(eq(KEY_PREFIX + "jti-1"), eq("1"), any(Duration.class));
+        assertThat(service.isRevoked(token("jti-1"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰과 jti 없는 토큰은 저장하지 않는다")
+    void ignoresExpiredAndIdlessTokens() {
+        when(redisTemplate.opsForStream()).thenThrow(new RedisConnectionFailureException("down"));
+        service = new TokenRevocationService(redisTemplate, jwtProperties);
+        UserPrincipal principal = UserPrincipal.of("user-1", "user@plate.dev", "사용자", null, null);
+
+        service.revoke(new VerifiedToken(principal, TokenType.ACCESS, "jti-1", null, System.currentTimeMillis() - 1));
+        service.revoke(new VerifiedToken(principal, TokenType.ACCESS, null, null, System.currentTimeMillis() + 60_000));
+
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    /**
+     * 필터 재구성이 성공하도록 Redis 응답을 준비 (SCAN 결과로 주어진 키를 돌려줌)
+     */
+    @SuppressWarnings("unchecked")
+    private StreamOperations<String, Object, Object> stubReadyRedis(String... scannedKeys) {
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+
+        Cursor<String> cursor = mock(Cursor.class);
+        if (scannedKeys.length == 0) {
+            when(cursor.hasNext()).thenReturn(false);
+        } else {
+            // 키 수만큼 true, 마지막에 false
+            Boolean[] more = new Boolean[scannedKeys.length];
+            Arrays.fill(more, true);
+            more[scannedKeys.length - 1] = false;
+            when(cursor.hasNext()).thenReturn(true, more);
+            when(cursor.next()).thenReturn(scannedKeys[0], Arrays.copyOfRange(scannedKeys, 1, scannedKeys.length));
+        }
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        return streamOperations;
+    }
+
+    private static VerifiedToken token(String tokenId) {
+        return new VerifiedToken(
+                UserPrincipal.of("user-1", "user@plate.dev", "사용자", null, null),
+                TokenType.ACCESS,
+                tokenId,
+                null,
+                System.currentTimeMillis() + 60_000
+        );
+    }
+}
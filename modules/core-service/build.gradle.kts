@@ -16,4 +16,15 @@ dependencies {
     // Spring
     implementation("org.springframework:spring-context")
     implementation("org.springframework:spring-tx")
+    implementation("org.springframework.boot:spring-boot")
+
+    // 로그인 시도 제한 (로컬 버킷 + Redis 실패 횟수)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.springframework.data:spring-data-redis")
+
+    // 사용자 캐시 직렬화
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+
+    // 메트릭
+    implementation("io.micrometer:micrometer-core")
 }
@@ -0,0 +1,111 @@
+package org.plate.service.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.plate.repository.archive.SoftDeleteArchiveRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * 소프트 삭제 후 유지 기간이 지난 사용자/테넌트를 보관 테이블로 이동
+ *
+ * 청크마다 별도 트랜잭션으로 처리하여 잠금을 짧게 유지하고, 테넌트를 먼저 옮긴 뒤 사용자를 옮긴다.
+ * 운영 테이블과 인덱스에는 활성 행과 유지 기간 내의 삭제 행만 남는다.
+ * 청크 사이 대기가 길어 공용 스케줄러 스레드를 점유하지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Service
+public class SoftDeleteArchiveJob implements DisposableBean {
+
+    private final SoftDeleteArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SoftDeleteArchiveProperties properties;
+    private final ExecutorService archiveExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SoftDeleteArchiveJob(
+            SoftDeleteArchiveRepository archiveRepository,
+            PlatformTransactionManager transactionManager,
+            SoftDeleteArchiveProperties properties
+    ) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.archiveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soft-delete-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 보관 작업을 전용 스레드에 넘기고 바로 반환 (이전 실행이 끝나지 않았으면 건너뜀)
+     */
+    @Scheduled(
+            initialDelayString = "${archive.soft-deleted.interval:PT1H}",
+            fixedDelayString = "${archive.soft-deleted.interval:PT1H}"
+    )
+    public void schedule() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        archiveExecutor.execute(() -> {
+            try {
+                run();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        archiveExecutor.shutdownNow();
+    }
+
+    void run() {
+        LocalDateTime removedBefore = LocalDateTime.now().minus(properties.getRetention());
+
+        try {
+            int tenants = archive("tenants", removedBefore, archiveRepository::archiveTenants);
+            int users = archive("users", removedBefore, archiveRepository::archiveUsers);
+            if (tenants > 0 || users > 0) {
+                log.info("소프트 삭제 행 보관 - 테넌트: {}, 사용자: {}", tenants, users);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.warn("소프트 삭제 행 보관 실패: {}", ex.getMessage());
+        }
+    }
+
+    private int archive(
+            String table,
+            LocalDateTime removedBefore,
+            BiFunction<LocalDateTime, Integer, Integer> archiveChunk
+    ) throws InterruptedException {
+        int chunkSize = properties.getChunkSize();
+        int total = 0;
+
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            Integer moved = transactionTemplate.execute(status -> archiveChunk.apply(removedBefore, chunkSize));
+            int count = moved != null ? moved : 0;
+            total += count;
+            if (count < chunkSize) {
+                return total;
+            }
+            Thread.sleep(properties.getPauseBetweenChunks().toMillis());
+        }
+
+        log.info("{} 보관 청크 상한 도달 - 다음 실행에서 계속", table);
+        return total;
+    }
+}
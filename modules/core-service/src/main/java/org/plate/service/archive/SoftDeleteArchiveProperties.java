@@ -0,0 +1,46 @@
+package org.plate.service.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 소프트 삭제 행 보관 작업 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "archive.soft-deleted")
+public class SoftDeleteArchiveProperties {
+
+    /**
+     * 보관 작업 사용 여부 (PostgreSQL 전용, 보관 테이블 생성 후 활성화)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 삭제 후 보관까지의 유지 기간
+     */
+    private Duration retention = Duration.ofDays(30);
+
+    /**
+     * 한 트랜잭션에서 옮기는 최대 행 수 (잠금 시간의 상한)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 한 번 실행에서 처리하는 최대 청크 수 (테이블별)
+     */
+    private int maxChunksPerRun = 200;
+
+    /**
+     * 청크 사이 대기 시간 (복제 지연, I/O 부하 완화)
+     */
+    private Duration pauseBetweenChunks = Duration.ofMillis(100);
+
+    /**
+     * 실행 간격
+     */
+    private Duration interval = Duration.ofHours(1);
+}
@@ -9,16 +9,27 @@ import org.plate.dto.auth.request.LoginRequest;
 import org.plate.dto.auth.request.SignUpRequest;
 import org.plate.dto.auth.response.TokenResponse;
 import org.plate.dto.auth.response.UserResponse;
+import org.plate.repository.tenant.projection.TenantMembership;
 import org.plate.entity.user.User;
+import org.plate.repository.user.projection.UserCredentials;
+import org.plate.repository.user.projection.UserSummary;
 import org.plate.security.jwt.JwtProvider;
 import org.plate.security.jwt.TokenService;
+import org.plate.security.jwt.VerifiedToken;
+import org.plate.security.refresh.RefreshRotation;
+import org.plate.security.refresh.RefreshSession;
+import org.plate.security.refresh.RefreshTokenFamilyService;
+import org.plate.security.revocation.TokenRevocationService;
 import org.plate.security.userdetails.UserPrincipal;
+import org.plate.service.password.PasswordHashingService;
+import org.plate.service.tenant.TenantMembershipCache;
+import org.plate.service.tenant.TenantRoles;
+import org.plate.service.user.UserCache;
 import org.plate.service.user.UserService;
 import org.plate.vo.password.HashedPassword;
 import org.plate.vo.password.PlainPassword;
 import org.plate.vo.token.TokenPair;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 인증 Facade
@@ -31,46 +42,65 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthFacade {
 
     private final UserService userService;
+    private final UserCache userCache;
+    private final TenantMembershipCache tenantMembershipCache;
     private final JwtProvider jwtProvider;
     private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenFamilyService refreshTokenFamilyService;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginThrottle loginThrottle;
 
     /**
      * 로그인 처리
+     * 비밀번호 검증은 해싱 풀에서 실행하므로 트랜잭션(DB 커넥션)을 잡지 않는다
+     *
+     * @param clientIp 요청 IP (시도 제한용)
      */
-    @Transactional(readOnly = true)
-    public TokenResponse login(LoginRequest request) {
-        // 사용자 조회
-        User user = userService.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_INVALID_CREDENTIALS));
+    public TokenResponse login(LoginRequest request, String clientIp) {
+        // 시도 제한 (사용자 조회, 해싱 전)
+        LoginThrottle.LoginAttempt attempt = loginThrottle.acquire(request.getEmail(), clientIp);
+
+        // 사용자 조회 (로그인에 필요한 컬럼만)
+        UserCredentials user = userService.findActiveCredentialsByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(attempt);
+            throw new BusinessException(ErrorCode.AUTH_INVALID_CREDENTIALS);
+        }
 
         // 비밀번호 검증
-        HashedPassword hashedPassword = HashedPassword.fromHash(user.getPassword());
-        if (!hashedPassword.matches(request.getPassword())) {
+        HashedPassword hashedPassword = HashedPassword.fromHash(user.password());
+        if (!passwordHashingService.matches(hashedPassword, request.getPassword())) {
+            loginThrottle.recordFailure(attempt);
             throw new BusinessException(ErrorCode.AUTH_INVALID_CREDENTIALS);
         }
+        loginThrottle.recordSuccess(attempt);
+
+        // 현재 cost/알고리즘과 다른 해시는 응답을 늦추지 않도록 백그라운드에서 교체
+        if (passwordHashingService.needsUpgrade(hashedPassword)) {
+            String userId = user.id();
+            passwordHashingService.upgradeInBackground(request.getPassword(), upgraded ->
+                    userService.upgradePasswordHash(userId, hashedPassword.getValue(), upgraded.getValue()));
+        }
 
         // 토큰 생성
-        UserPrincipal userPrincipal = toUserPrincipal(user);
-        TokenPair tokenPair = tokenService.generateTokenPair(userPrincipal);
+        UserSummary summary = user.toSummary();
+        TokenPair tokenPair = issueTokenPair(summary);
 
-        log.info("로그인 성공 - 사용자: {}", user.getEmail());
+        log.info("로그인 성공 - 사용자: {}", user.email());
 
-        return buildTokenResponse(tokenPair, user);
+        return buildTokenResponse(tokenPair, summary);
     }
 
     /**
      * 회원가입 처리
+     * 해싱 대기 중에 DB 커넥션을 잡지 않도록 저장만 트랜잭션으로 처리
+     * 이메일/전화번호/이름 중복은 INSERT 시 유니크 제약 조건으로 판정
      */
-    @Transactional
     public TokenResponse signUp(SignUpRequest request) {
-        // 이메일 중복 확인
-        if (userService.existsByEmail(request.getEmail())) {
-            throw new BusinessException(ErrorCode.USER_EMAIL_DUPLICATE);
-        }
-
         // 비밀번호 암호화
         PlainPassword plainPassword = PlainPassword.of(request.getPassword());
-        HashedPassword hashedPassword = plainPassword.toHashed();
+        HashedPassword hashedPassword = passwordHashingService.hash(plainPassword);
 
         // 사용자 생성
         User newUser = User.create(
@@ -80,11 +110,10 @@ public class AuthFacade {
                 request.getPhone()
         );
 
-        User savedUser = userService.save(newUser);
+        UserSummary savedUser = UserSummary.from(userService.create(newUser));
 
         // 토큰 생성
-        UserPrincipal userPrincipal = toUserPrincipal(savedUser);
-        TokenPair tokenPair = tokenService.generateTokenPair(userPrincipal);
+        TokenPair tokenPair = issueTokenPair(savedUser);
 
         log.info("회원가입 성공 - 사용자: {}", request.getEmail());
 
@@ -93,30 +122,36 @@ public class AuthFacade {
 
     /**
      * 토큰 갱신
+     * 패밀리에 속한 토큰은 Redis 한 번으로 회전하고, 이전 방식으로 발급된 토큰만 사용자 캐시에서 조회
+     * 어느 경우든 역할/테넌트는 테넌트 소속 캐시에서 다시 읽어 새 토큰에 기록
      */
-    @Transactional(readOnly = true)
     public TokenResponse refreshToken(String refreshToken) {
-        // 토큰 유효성 검증
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.AUTH_REFRESH_TOKEN_INVALID);
+        // 토큰 검증 (서명, 만료, 타입을 한 번의 파싱으로 확인)
+        VerifiedToken verified = jwtProvider.verify(refreshToken)
+                .filter(token -> token.tokenType() == TokenType.REFRESH)
+                .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_REFRESH_TOKEN_INVALID));
+
+        if (refreshTokenFamilyService.isEnabled() && verified.familyId() != null) {
+            RefreshRotation rotation = refreshTokenFamilyService.rotate(verified, this::withMainTenant)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_REFRESH_TOKEN_INVALID));
+
+            log.info("토큰 갱신 성공 - 사용자: {}", rotation.session().email());
+
+            return buildTokenResponse(rotation.tokenPair(), rotation.session());
         }
 
-        // Refresh Token 타입 확인
-        if (jwtProvider.getTokenType(refreshToken) != TokenType.REFRESH) {
+        if (tokenRevocationService.isRevoked(verified)) {
             throw new BusinessException(ErrorCode.AUTH_REFRESH_TOKEN_INVALID);
         }
 
-        // 사용자 정보 추출
-        UserPrincipal userPrincipal = jwtProvider.getUserPrincipalFromToken(refreshToken);
-
-        // 사용자 조회 (최신 정보 반영)
-        User user = userService.findActiveByEmail(userPrincipal.getEmail());
+        // 사용자 조회 (캐시 미스 시 DB)
+        UserSummary user = userCache.findActiveByEmail(verified.principal().getEmail())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 새 토큰 발급
-        UserPrincipal newUserPrincipal = toUserPrincipal(user);
-        TokenPair tokenPair = tokenService.generateTokenPair(newUserPrincipal);
+        TokenPair tokenPair = issueTokenPair(user);
 
-        log.info("토큰 갱신 성공 - 사용자: {}", user.getEmail());
+        log.info("토큰 갱신 성공 - 사용자: {}", user.email());
 
         return buildTokenResponse(tokenPair, user);
     }
@@ -125,44 +160,109 @@ public class AuthFacade {
      * 토큰 검증
      */
     public UserResponse verifyToken(UserPrincipal userPrincipal) {
-        // 사용자 조회하여 최신 정보 반환
-        User user = userService.findActiveById(userPrincipal.getId());
-        return UserResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .name(user.getName())
-                .phone(user.getPhone())
-                .build();
+        // 사용자 조회하여 최신 정보 반환 (캐시 미스 시 DB)
+        UserSummary user = userCache.findActiveById(userPrincipal.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return toUserResponse(user);
     }
 
     /**
      * 로그아웃 처리
+     * 요청에 사용된 Access Token과 Refresh Token을 남은 수명 동안 폐기
      */
-    public void logout(UserPrincipal userPrincipal) {
+    public void logout(UserPrincipal userPrincipal, String accessToken, String refreshToken) {
+        revokeOwnToken(userPrincipal, accessToken);
+        revokeOwnToken(userPrincipal, refreshToken);
         log.info("로그아웃 - 사용자: {}", userPrincipal.getEmail());
-        // TODO: Redis에서 토큰 무효화 처리
     }
 
     // ========== Helper Methods ==========
 
-    private UserPrincipal toUserPrincipal(User user) {
+    private void revokeOwnToken(UserPrincipal userPrincipal, String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        jwtProvider.verify(token)
+                .filter(verified -> userPrincipal.getId().equals(verified.principal().getId()))
+                .ifPresent(verified -> {
+                    tokenRevocationService.revoke(verified);
+                    if (verified.familyId() != null) {
+                        refreshTokenFamilyService.revoke(verified);
+                    }
+                });
+    }
+
+    /**
+     * 토큰 쌍 발급 (회전 사용 시 새 패밀리 생성)
+     */
+    private TokenPair issueTokenPair(UserSummary user) {
+        if (refreshTokenFamilyService.isEnabled()) {
+            return refreshTokenFamilyService.issue(toRefreshSession(user));
+        }
+        return tokenService.generateTokenPair(toUserPrincipal(user));
+    }
+
+    private RefreshSession toRefreshSession(UserSummary user) {
+        UserPrincipal userPrincipal = toUserPrincipal(user);
+        return new RefreshSession(
+                userPrincipal.getId(),
+                userPrincipal.getEmail(),
+                userPrincipal.getName(),
+                user.phone(),
+                userPrincipal.getRole(),
+                userPrincipal.getTenantId()
+        );
+    }
+
+    /**
+     * 스냅샷의 역할/테넌트를 현재 메인 테넌트로 갱신 (소속 캐시 조회)
+     */
+    private RefreshSession withMainTenant(RefreshSession session) {
+        TenantMembership mainTenant = tenantMembershipCache.findMain(session.userId()).orElse(null);
+        return mainTenant != null
+                ? session.withTenant(TenantRoles.globalRoleOf(mainTenant.roleId()), mainTenant.tenantId())
+                : session.withTenant(null, null);
+    }
+
+    /**
+     * 메인 테넌트의 역할과 ID를 담은 Principal (토큰에 기록되어 요청마다 조회하지 않음)
+     */
+    private UserPrincipal toUserPrincipal(UserSummary user) {
+        TenantMembership mainTenant = tenantMembershipCache.findMain(user.id()).orElse(null);
         return UserPrincipal.of(
-                user.getId(),
-                user.getEmail(),
-                user.getName(),
-                null,  // role은 Tenant 테이블에서 관리
-                null   // tenantId는 Tenant 테이블에서 관리
+                user.id(),
+                user.email(),
+                user.name(),
+                mainTenant != null ? TenantRoles.globalRoleOf(mainTenant.roleId()) : null,
+                mainTenant != null ? mainTenant.tenantId() : null
         );
     }
 
-    private TokenResponse buildTokenResponse(TokenPair tokenPair, User user) {
+    private TokenResponse buildTokenResponse(TokenPair tokenPair, UserSummary user) {
+        return buildTokenResponse(tokenPair, toUserResponse(user));
+    }
+
+    private UserResponse toUserResponse(UserSummary user) {
+        return UserResponse.builder()
+                .id(user.id())
+                .email(user.email())
+                .name(user.name())
+                .phone(user.phone())
+                .build();
+    }
+
+    private TokenResponse buildTokenResponse(TokenPair tokenPair, RefreshSession session) {
         UserResponse userResponse = UserResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .name(user.getName())
-                .phone(user.getPhone())
+                .id(session.userId())
+                .email(session.email())
+                .name(session.name())
+                .phone(session.phone())
                 .build();
 
+        return buildTokenResponse(tokenPair, userResponse);
+    }
+
+    private TokenResponse buildTokenResponse(TokenPair tokenPair, UserResponse userResponse) {
         return TokenResponse.builder()
                 .accessToken(tokenPair.accessToken())
                 .refreshToken(tokenPair.refreshToken())
@@ -0,0 +1,201 @@
+package org.plate.service.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.TooManyRequestsException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한
+ *
+ * 비밀번호 해싱 전에 실행되어 명백한 대입 공격을 BCrypt 비용 없이 차단한다.
+ * 1. 노드 로컬 토큰 버킷 (IP별, 계정별)
+ * 2. Redis 실패 횟수 (전체 노드 공유, 한도 초과 시 failure-window 동안 잠금)
+ * 한도를 넘으면 Retry-After와 함께 AUTH_TOO_MANY_ATTEMPTS(429)를 반환한다.
+ */
+@Slf4j
+@Service
+public class LoginThrottle {
+
+    private static final String EMAIL_FAILURE_KEY_PREFIX = "auth:login-failures:email:";
+    private static final String IP_FAILURE_KEY_PREFIX = "auth:login-failures:ip:";
+
+    /**
+     * KEYS: 실패 횟수 키 목록
+     * 반환: 키마다 {실패 횟수, 남은 TTL(ms)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CHECK_SCRIPT = RedisScript.of("""
+            local result = {}
+            for _, key in ipairs(KEYS) do
+                result[#result + 1] = tonumber(redis.call('GET', key) or '0')
+                result[#result + 1] = redis.call('PTTL', key)
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS: 실패 횟수 키 목록
+     * ARGV[1]: 집계 기간(ms)
+     */
+    private static final RedisScript<Long> FAILURE_SCRIPT = RedisScript.of("""
+            for _, key in ipairs(KEYS) do
+                if redis.call('INCR', key) == 1 then
+                    redis.call('PEXPIRE', key, ARGV[1])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private final LoginThrottleProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    private final StripedTokenBuckets ipBuckets;
+    private final StripedTokenBuckets emailBuckets;
+
+    private final Counter ipThrottledCounter;
+    private final Counter emailThrottledCounter;
+    private final Counter lockedCounter;
+
+    public LoginThrottle(
+            LoginThrottleProperties properties,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.ipBuckets = new StripedTokenBuckets(
+                properties.getIpAttempts(), properties.getRefillPeriod(), properties.getMaximumKeys());
+        this.emailBuckets = new StripedTokenBuckets(
+                properties.getEmailAttempts(), properties.getRefillPeriod(), properties.getMaximumKeys());
+        this.ipThrottledCounter = throttledCounter(meterRegistry, "ip");
+        this.emailThrottledCounter = throttledCounter(meterRegistry, "email");
+        this.lockedCounter = throttledCounter(meterRegistry, "locked");
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인 (허용되지 않으면 TooManyRequestsException)
+     */
+    public LoginAttempt acquire(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return LoginAttempt.UNTRACKED;
+        }
+        String normalizedEmail = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        String ip = clientIp == null ? "unknown" : clientIp;
+
+        long waitNanos = ipBuckets.tryConsume(ip);
+        if (waitNanos > 0) {
+            ipThrottledCounter.increment();
+            throw throttled(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        }
+        waitNanos = emailBuckets.tryConsume(normalizedEmail);
+        if (waitNanos > 0) {
+            emailThrottledCounter.increment();
+            throw throttled(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        }
+
+        LoginAttempt attempt = new LoginAttempt(
+                EMAIL_FAILURE_KEY_PREFIX + normalizedEmail,
+                IP_FAILURE_KEY_PREFIX + ip,
+                false
+        );
+        if (!properties.isRedisEnabled()) {
+            return attempt;
+        }
+
+        List<?> counts;
+        try {
+            counts = redisTemplate.execute(CHECK_SCRIPT, List.of(attempt.emailKey(), attempt.ipKey()));
+        } catch (RuntimeException ex) {
+            // 공유 실패 횟수를 확인할 수 없으면 로컬 버킷만으로 제한
+            log.warn("로그인 실패 횟수를 조회할 수 없습니다: {}", ex.getMessage());
+            return attempt;
+        }
+        if (counts == null || counts.size() < 4) {
+            return attempt;
+        }
+
+        long emailFailures = ((Number) counts.get(0)).longValue();
+        long ipFailures = ((Number) counts.get(2)).longValue();
+        if (emailFailures >= properties.getMaxFailuresPerEmail()) {
+            lockedCounter.increment();
+            throw throttled(retryAfterSeconds((Number) counts.get(1)));
+        }
+        if (ipFailures >= properties.getMaxFailuresPerIp()) {
+            lockedCounter.increment();
+            throw throttled(retryAfterSeconds((Number) counts.get(3)));
+        }
+        return new LoginAttempt(attempt.emailKey(), attempt.ipKey(), emailFailures > 0);
+    }
+
+    /**
+     * 로그인 실패 기록
+     */
+    public void recordFailure(LoginAttempt attempt) {
+        if (attempt == LoginAttempt.UNTRACKED || !properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(
+                    FAILURE_SCRIPT,
+                    List.of(attempt.emailKey(), attempt.ipKey()),
+                    String.valueOf(properties.getFailureWindow().toMillis())
+            );
+        } catch (RuntimeException ex) {
+            log.warn("로그인 실패 횟수를 기록할 수 없습니다: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 로그인 성공 시 계정 실패 횟수 초기화 (실패 이력이 있을 때만 Redis 호출)
+     */
+    public void recordSuccess(LoginAttempt attempt) {
+        if (attempt == LoginAttempt.UNTRACKED || !attempt.hadFailures() || !properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(attempt.emailKey());
+        } catch (RuntimeException ex) {
+            log.warn("로그인 실패 횟수를 초기화할 수 없습니다: {}", ex.getMessage());
+        }
+    }
+
+    private long retryAfterSeconds(Number ttlMillis) {
+        long ttl = ttlMillis.longValue();
+        if (ttl <= 0) {
+            return properties.getFailureWindow().toSeconds();
+        }
+        return TimeUnit.MILLISECONDS.toSeconds(ttl) + 1;
+    }
+
+    private static TooManyRequestsException throttled(long retryAfterSeconds) {
+        return new TooManyRequestsException(ErrorCode.AUTH_TOO_MANY_ATTEMPTS, retryAfterSeconds);
+    }
+
+    private static Counter throttledCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("auth.login.throttled")
+                .description("시도 제한으로 거부된 로그인 요청 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * 허용된 로그인 시도 (결과 기록용)
+     *
+     * @param emailKey    계정 실패 횟수 키
+     * @param ipKey       IP 실패 횟수 키
+     * @param hadFailures 시도 전에 계정 실패 이력이 있었는지 여부
+     */
+    public record LoginAttempt(String emailKey, String ipKey, boolean hadFailures) {
+
+        static final LoginAttempt UNTRACKED = new LoginAttempt(null, null, false);
+    }
+}
@@ -0,0 +1,61 @@
+package org.plate.service.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.login-throttle")
+public class LoginThrottleProperties {
+
+    /**
+     * 시도 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * IP별 노드 로컬 버킷 크기 (refill-period 동안 허용하는 시도 수)
+     */
+    private int ipAttempts = 30;
+
+    /**
+     * 계정(이메일)별 노드 로컬 버킷 크기
+     */
+    private int emailAttempts = 10;
+
+    /**
+     * 로컬 버킷이 가득 차기까지 걸리는 시간
+     */
+    private Duration refillPeriod = Duration.ofMinutes(1);
+
+    /**
+     * 노드당 추적하는 최대 키 수 (IP, 이메일 각각)
+     */
+    private long maximumKeys = 100_000;
+
+    /**
+     * Redis로 전체 노드의 실패 횟수를 공유할지 여부
+     */
+    private boolean redisEnabled = true;
+
+    /**
+     * 계정별 허용 실패 횟수 (failure-window 동안, 초과 시 잠금)
+     */
+    private int maxFailuresPerEmail = 10;
+
+    /**
+     * IP별 허용 실패 횟수
+     */
+    private int maxFailuresPerIp = 100;
+
+    /**
+     * 실패 횟수를 집계하는 기간 (첫 실패부터)
+     */
+    private Duration failureWindow = Duration.ofMinutes(15);
+}
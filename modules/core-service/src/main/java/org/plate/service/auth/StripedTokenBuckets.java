@@ -0,0 +1,71 @@
+package org.plate.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 토큰 버킷 (노드 로컬)
+ *
+ * 버킷은 크기가 제한된 캐시에 보관하고, 갱신은 키 해시로 고른 잠금 스트라이프 안에서 수행한다.
+ * 오래 사용되지 않은 버킷은 가득 찬 상태와 같으므로 캐시에서 만료시킨다.
+ */
+final class StripedTokenBuckets {
+
+    private static final int STRIPES = 64;
+
+    private final Cache<String, TokenBucket> buckets;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final double capacity;
+    private final double tokensPerNano;
+
+    StripedTokenBuckets(int capacity, Duration refillPeriod, long maximumKeys) {
+        this.capacity = Math.max(1, capacity);
+        this.tokensPerNano = this.capacity / refillPeriod.toNanos();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(refillPeriod)
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 0이면 허용, 0보다 크면 다음 토큰까지 남은 시간 (나노초)
+     */
+    long tryConsume(String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, ignored -> new TokenBucket(capacity, now));
+
+        int hash = key.hashCode();
+        ReentrantLock lock = locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        lock.lock();
+        try {
+            bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+            bucket.refilledAt = now;
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
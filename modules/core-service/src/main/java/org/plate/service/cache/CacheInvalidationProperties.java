@@ -0,0 +1,68 @@
+package org.plate.service.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 캐시 무효화 설정 (아웃박스 -> Redis 스트림)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.invalidation")
+public class CacheInvalidationProperties {
+
+    /**
+     * 사용 여부 (PostgreSQL 전용, 아웃박스 테이블 생성 후 활성화)
+     * 끄면 변경한 노드의 캐시만 제거하고 다른 노드는 TTL로 갱신된다
+     */
+    private boolean enabled = false;
+
+    /**
+     * 무효화 이벤트 스트림 키
+     */
+    private String streamKey = "cache:invalidations";
+
+    /**
+     * 노드 식별자 (처리 위치 저장 키, 재시작 후에도 같은 값이어야 밀린 이벤트를 이어서 처리)
+     * 비어 있으면 임의 값을 사용한다
+     */
+    private String nodeId;
+
+    /**
+     * 아웃박스 릴레이 실행 간격
+     */
+    private Duration relayInterval = Duration.ofMillis(500);
+
+    /**
+     * 스트림 메시지 하나에 담는 최대 이벤트 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 릴레이 한 번 실행에서 발행하는 최대 배치 수
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 스트림 최대 길이 (근사 trim)
+     */
+    private long streamMaxLength = 100_000;
+
+    /**
+     * 스트림 읽기 대기 시간 (XREAD BLOCK)
+     */
+    private Duration pollTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 노드 처리 위치 보관 기간 (이보다 오래 내려가 있던 노드는 최신 위치부터 시작)
+     */
+    private Duration offsetTtl = Duration.ofDays(7);
+
+    /**
+     * 처리 지연(lag) 측정 간격
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(10);
+}
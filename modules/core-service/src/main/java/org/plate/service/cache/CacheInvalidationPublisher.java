@@ -0,0 +1,46 @@
+package org.plate.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.plate.repository.outbox.CacheInvalidation;
+import org.plate.repository.outbox.CacheInvalidationOutboxRepository;
+import org.plate.service.tenant.TenantMembershipCache;
+import org.plate.service.user.UserCache;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자/테넌트 변경 시 캐시 무효화
+ *
+ * 변경한 노드는 커밋 후 바로 제거하고, 다른 노드에는 같은 트랜잭션에서 기록한 아웃박스 이벤트로 전달한다.
+ * 변경이 롤백되면 이벤트도 함께 롤백되므로 커밋되지 않은 변경으로 무효화되는 일은 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    private final UserCache userCache;
+    private final TenantMembershipCache tenantMembershipCache;
+    private final CacheInvalidationOutboxRepository outboxRepository;
+    private final CacheInvalidationProperties properties;
+
+    /**
+     * 사용자 변경 (호출자의 트랜잭션에서 아웃박스 기록)
+     */
+    public void userChanged(String id, String email) {
+        userCache.evict(id, email);
+        append(CacheInvalidation.user(id, email));
+    }
+
+    /**
+     * 사용자의 테넌트 소속 변경 (호출자의 트랜잭션에서 아웃박스 기록)
+     */
+    public void tenantMembershipChanged(String userId) {
+        tenantMembershipCache.evict(userId);
+        append(CacheInvalidation.tenantMembership(userId));
+    }
+
+    private void append(CacheInvalidation event) {
+        if (properties.isEnabled()) {
+            outboxRepository.append(event);
+        }
+    }
+}
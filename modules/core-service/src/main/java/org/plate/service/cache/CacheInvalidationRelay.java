@@ -0,0 +1,115 @@
+package org.plate.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.repository.outbox.CacheInvalidation;
+import org.plate.repository.outbox.CacheInvalidationOutboxRepository;
+import org.plate.repository.outbox.CacheInvalidationOutboxRepository.ClaimedEvent;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스의 캐시 무효화 이벤트를 Redis 스트림으로 발행
+ *
+ * 배치마다 한 트랜잭션에서 이벤트를 꺼내(삭제) 스트림 메시지 하나로 발행한 뒤 커밋한다.
+ * 발행에 실패하면 롤백되어 다음 실행에서 다시 발행하고, 커밋에 실패하면 같은 이벤트가 한 번 더 발행될 수 있다.
+ * 무효화는 여러 번 적용해도 결과가 같으므로 중복 발행은 문제가 되지 않는다.
+ */
+@Slf4j
+@Service
+public class CacheInvalidationRelay {
+
+    /**
+     * 스트림 메시지의 이벤트 목록 필드 (JSON 배열)
+     */
+    static final String EVENTS_FIELD = "events";
+
+    private final CacheInvalidationOutboxRepository outboxRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Timer outboxDelayTimer;
+
+    public CacheInvalidationRelay(
+            CacheInvalidationOutboxRepository outboxRepository,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            CacheInvalidationProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = Counter.builder("cache.invalidation.published")
+                .description("스트림으로 발행한 캐시 무효화 이벤트 수")
+                .register(meterRegistry);
+        this.outboxDelayTimer = Timer.builder("cache.invalidation.outbox.delay")
+                .description("아웃박스 기록부터 스트림 발행까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${cache.invalidation.relay-interval:PT0.5S}",
+            fixedDelayString = "${cache.invalidation.relay-interval:PT0.5S}"
+    )
+    public void relay() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                Integer published = transactionTemplate.execute(status -> publishBatch());
+                if (published == null || published < properties.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("캐시 무효화 이벤트 발행 실패: {}", ex.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        List<ClaimedEvent> claimed = outboxRepository.claim(properties.getBatchSize());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<CacheInvalidation> events = claimed.stream().map(ClaimedEvent::event).toList();
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(events);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("캐시 무효화 이벤트 직렬화 실패", ex);
+        }
+
+        String streamKey = properties.getStreamKey();
+        redisTemplate.opsForStream().add(StreamRecords.string(Map.of(EVENTS_FIELD, payload)).withStreamKey(streamKey));
+        redisTemplate.opsForStream().trim(streamKey, properties.getStreamMaxLength(), true);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (ClaimedEvent event : claimed) {
+            outboxDelayTimer.record(Duration.between(event.createdAt(), now));
+        }
+        publishedCounter.increment(claimed.size());
+        return claimed.size();
+    }
+}
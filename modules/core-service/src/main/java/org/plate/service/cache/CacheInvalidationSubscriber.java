@@ -0,0 +1,202 @@
+package org.plate.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.repository.outbox.CacheInvalidation;
+import org.plate.service.tenant.TenantMembershipCache;
+import org.plate.service.user.UserCache;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis 스트림의 캐시 무효화 이벤트를 읽어 이 노드의 로컬 캐시에서 제거
+ *
+ * 모든 노드가 같은 스트림을 각자 읽으며(XREAD), 처리한 메시지 ID를 노드별 키에 저장한다.
+ * 재시작하면 저장된 위치부터 이어서 읽고, 저장된 위치가 없으면 스트림의 최신 위치부터 읽는다.
+ * 자신이 발행한 이벤트도 다시 적용되지만 로컬 캐시 제거만 하므로 영향이 없다.
+ */
+@Slf4j
+@Service
+public class CacheInvalidationSubscriber implements DisposableBean {
+
+    private static final String OFFSET_KEY_PREFIX = "cache:invalidations:offset:";
+    private static final TypeReference<List<CacheInvalidation>> EVENT_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationProperties properties;
+    private final UserCache userCache;
+    private final TenantMembershipCache tenantMembershipCache;
+    private final MeterRegistry meterRegistry;
+
+    private final String offsetKey;
+    private final AtomicReference<RecordId> lastConsumed = new AtomicReference<>();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private volatile StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    public CacheInvalidationSubscriber(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            CacheInvalidationProperties properties,
+            UserCache userCache,
+            TenantMembershipCache tenantMembershipCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.userCache = userCache;
+        this.tenantMembershipCache = tenantMembershipCache;
+        this.meterRegistry = meterRegistry;
+        this.offsetKey = OFFSET_KEY_PREFIX + resolveNodeId(properties);
+
+        Gauge.builder("cache.invalidation.lag", lagMillis, AtomicLong::get)
+                .description("스트림 최신 메시지와 이 노드가 처리한 메시지의 시간 차이")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String streamKey = properties.getStreamKey();
+        String startId = startOffset(streamKey);
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(properties.getPollTimeout())
+                        .build();
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> listenerContainer =
+                StreamMessageListenerContainer.create(connectionFactory, options);
+
+        listenerContainer.register(
+                StreamReadRequest.builder(StreamOffset.create(streamKey, ReadOffset.from(startId)))
+                        .cancelOnError(ex -> false)
+                        .errorHandler(ex -> log.warn("캐시 무효화 스트림 읽기 실패: {}", ex.getMessage()))
+                        .build(),
+                this::onMessage);
+        listenerContainer.start();
+        this.container = listenerContainer;
+        log.info("캐시 무효화 스트림 구독 시작 - {} ({}부터)", offsetKey, startId);
+    }
+
+    @Override
+    public void destroy() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    /**
+     * 스트림 최신 메시지 대비 처리 지연 갱신
+     */
+    @Scheduled(
+            initialDelayString = "${cache.invalidation.lag-check-interval:PT10S}",
+            fixedDelayString = "${cache.invalidation.lag-check-interval:PT10S}"
+    )
+    public void updateLag() {
+        RecordId consumed = lastConsumed.get();
+        if (container == null || consumed == null) {
+            return;
+        }
+        try {
+            RecordId latest = latestId(properties.getStreamKey());
+            lagMillis.set(latest == null || latest.equals(consumed)
+                    ? 0
+                    : Math.max(0, latest.getTimestamp() - consumed.getTimestamp()));
+        } catch (RuntimeException ex) {
+            log.debug("캐시 무효화 지연 측정 실패: {}", ex.getMessage());
+        }
+    }
+
+    private void onMessage(MapRecord<String, String, String> message) {
+        String payload = message.getValue().get(CacheInvalidationRelay.EVENTS_FIELD);
+        if (payload != null) {
+            try {
+                objectMapper.readValue(payload, EVENT_LIST_TYPE).forEach(this::apply);
+            } catch (JsonProcessingException ex) {
+                log.warn("캐시 무효화 이벤트 해석 실패 - {}: {}", message.getId(), ex.getMessage());
+            }
+        }
+
+        lastConsumed.set(message.getId());
+        try {
+            redisTemplate.opsForValue().set(offsetKey, message.getId().getValue(), properties.getOffsetTtl());
+        } catch (RuntimeException ex) {
+            log.debug("캐시 무효화 처리 위치 저장 실패: {}", ex.getMessage());
+        }
+    }
+
+    private void apply(CacheInvalidation event) {
+        switch (event.region()) {
+            case USER -> userCache.evictLocal(event.key(), event.email());
+            case TENANT_MEMBERSHIP -> tenantMembershipCache.evictLocal(event.key());
+        }
+        meterRegistry.counter("cache.invalidation.applied", "region", event.region().name()).increment();
+    }
+
+    /**
+     * 저장된 처리 위치, 없으면 스트림의 최신 메시지 (빈 스트림이면 처음)
+     */
+    private String startOffset(String streamKey) {
+        String stored = redisTemplate.opsForValue().get(offsetKey);
+        if (stored != null) {
+            lastConsumed.set(RecordId.of(stored));
+            return stored;
+        }
+        RecordId latest = latestId(streamKey);
+        if (latest == null) {
+            return "0-0";
+        }
+        lastConsumed.set(latest);
+        return latest.getValue();
+    }
+
+    private RecordId latestId(String streamKey) {
+        List<MapRecord<String, Object, Object>> latest = redisTemplate.opsForStream()
+                .reverseRange(streamKey, Range.unbounded(), Limit.limit().count(1));
+        return latest == null || latest.isEmpty() ? null : latest.get(0).getId();
+    }
+
+    private static String resolveNodeId(CacheInvalidationProperties properties) {
+        if (StringUtils.hasText(properties.getNodeId())) {
+            return properties.getNodeId();
+        }
+        String nodeId = UUID.randomUUID().toString();
+        if (properties.isEnabled()) {
+            log.warn("cache.invalidation.node-id 미설정 - 재시작 시 밀린 무효화 이벤트를 이어서 처리하지 않음 ({})", nodeId);
+        }
+        return nodeId;
+    }
+}
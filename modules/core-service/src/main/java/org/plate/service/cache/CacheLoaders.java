@@ -0,0 +1,31 @@
+package org.plate.service.cache;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * 로컬 캐시(Caffeine) 로딩 실행기
+ *
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 캐시 잠금 밖의 가상 스레드에서 로딩하여
+ * 호출 스레드가 I/O 동안 캐리어 스레드를 고정하지 않게 한다.
+ * 기본(플랫폼 스레드) 모드에서는 이전처럼 호출 스레드에서 바로 로딩한다.
+ */
+public final class CacheLoaders {
+
+    private CacheLoaders() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 실행 모드에 맞는 로딩 실행기
+     *
+     * @param virtualThreads 가상 스레드 모드 여부
+     * @param threadPrefix   가상 스레드 이름 접두사
+     */
+    public static Executor executor(boolean virtualThreads, String threadPrefix) {
+        if (!virtualThreads) {
+            return Runnable::run;
+        }
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadPrefix, 0).factory());
+    }
+}
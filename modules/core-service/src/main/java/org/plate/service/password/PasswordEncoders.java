@@ -0,0 +1,95 @@
+package org.plate.service.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 애플리케이션 공용 PasswordEncoder 생성
+ *
+ * {bcrypt} 접두사를 붙이는 DelegatingPasswordEncoder를 만들며,
+ * 접두사 없이 저장된 기존 해시도 BCrypt로 검증한다 (로그인 시 접두사와 현재 cost로 재해싱 대상).
+ */
+@Slf4j
+public final class PasswordEncoders {
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    /**
+     * 측정에 사용하는 cost (측정 시간을 짧게 유지)
+     */
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_SAMPLES = 3;
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+
+    private PasswordEncoders() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 설정에 따라 cost를 결정하여 인코더 생성
+     * strength가 지정되지 않으면 기동 시 target-latency 기준으로 보정
+     */
+    public static PasswordEncoder create(PasswordHashingProperties properties) {
+        int strength = properties.getStrength() > 0
+                ? properties.getStrength()
+                : calibrate(properties.getTargetLatency(), properties.getMinStrength(), properties.getMaxStrength());
+        return delegating(strength);
+    }
+
+    /**
+     * 지정한 cost의 BCrypt를 기본으로 하는 DelegatingPasswordEncoder
+     */
+    public static PasswordEncoder delegating(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * 목표 지연 시간 안에 들어오는 가장 큰 BCrypt cost 계산
+     * cost가 1 오를 때마다 해싱 시간은 두 배가 된다
+     */
+    static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        int lower = Math.max(MIN_BCRYPT_STRENGTH, minStrength);
+        int upper = Math.min(MAX_BCRYPT_STRENGTH, Math.max(lower, maxStrength));
+
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        String sample = "calibration-probe";
+        probe.encode(sample);
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            probe.encode(sample);
+            fastest = Math.min(fastest, System.nanoTime() - startedAt);
+        }
+
+        long target = targetLatency.toNanos();
+        int strength = PROBE_STRENGTH;
+        double estimated = fastest;
+        while (strength < upper && estimated * 2 <= target) {
+            estimated *= 2;
+            strength++;
+        }
+        while (strength > PROBE_STRENGTH && estimated > target) {
+            estimated /= 2;
+            strength--;
+        }
+        int calibrated = Math.min(upper, Math.max(lower, strength));
+
+        log.info("BCrypt cost 보정 - cost: {}, 예상 해싱 시간: {}ms (목표 {}ms, cost {} 측정값 {}ms)",
+                calibrated,
+                Math.round(fastest * Math.pow(2, calibrated - PROBE_STRENGTH) / 1_000_000),
+                targetLatency.toMillis(),
+                PROBE_STRENGTH,
+                Math.round(fastest / 1_000_000.0));
+        return calibrated;
+    }
+}
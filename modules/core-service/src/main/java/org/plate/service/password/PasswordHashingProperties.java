@@ -0,0 +1,55 @@
+package org.plate.service.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정 (BCrypt cost, 해싱 스레드 풀)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * 고정 BCrypt cost (0이면 기동 시 target-latency 기준으로 보정)
+     */
+    private int strength = 0;
+
+    /**
+     * 해시 1회에 허용하는 목표 시간 (cost 보정 기준)
+     */
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    /**
+     * 보정 결과의 최소 cost (보안 하한)
+     */
+    private int minStrength = 10;
+
+    /**
+     * 보정 결과의 최대 cost
+     */
+    private int maxStrength = 14;
+
+    /**
+     * 해싱 스레드 수 (0 이하면 CPU 코어 수)
+     */
+    private int threads = 0;
+
+    /**
+     * 대기열 크기 (가득 차면 즉시 503 응답)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 요청 스레드가 해싱 결과를 기다리는 최대 시간 (대기열 대기 포함)
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,190 @@
+package org.plate.service.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.BusinessException;
+import org.plate.vo.password.HashedPassword;
+import org.plate.vo.password.PlainPassword;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀
+ *
+ * BCrypt 연산을 요청 스레드가 아닌 코어 수 크기의 전용 풀에서 실행한다.
+ * 대기열이 가득 차거나 최대 대기 시간을 넘기면 즉시 COMMON_SERVICE_BUSY(503)로 실패하여
+ * 로그인 폭주가 Tomcat 워커 스레드 전체를 점유하지 않도록 한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "password.hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    private final Timer hashWaitTimer;
+    private final Timer verifyWaitTimer;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            PasswordHashingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        int threads = properties.resolveThreads();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+
+        this.hashWaitTimer = waitTimer(meterRegistry, "hash");
+        this.verifyWaitTimer = waitTimer(meterRegistry, "verify");
+        this.hashTimer = durationTimer(meterRegistry, "hash");
+        this.verifyTimer = durationTimer(meterRegistry, "verify");
+        this.queueFullCounter = rejectedCounter(meterRegistry, "queue_full");
+        this.timeoutCounter = rejectedCounter(meterRegistry, "timeout");
+
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, pool -> pool.getQueue().size())
+                .description("해싱 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 풀 - 스레드: {}, 대기열: {}", threads, properties.getQueueCapacity());
+    }
+
+    /**
+     * 평문 비밀번호 해싱
+     */
+    public HashedPassword hash(PlainPassword plainPassword) {
+        return execute(() -> plainPassword.toHashed(passwordEncoder), hashWaitTimer, hashTimer);
+    }
+
+    /**
+     * 저장된 해시와 평문 비밀번호 비교
+     */
+    public boolean matches(HashedPassword hashedPassword, String rawPassword) {
+        return execute(() -> hashedPassword.matches(rawPassword, passwordEncoder), verifyWaitTimer, verifyTimer);
+    }
+
+    /**
+     * 현재 인코더 설정과 다른 해시인지 확인 (해싱 없이 접두사/cost만 비교)
+     */
+    public boolean needsUpgrade(HashedPassword hashedPassword) {
+        return hashedPassword.needsUpgrade(passwordEncoder);
+    }
+
+    /**
+     * 현재 설정으로 재해싱하여 콜백에 전달 (백그라운드, 대기열이 가득 차면 다음 로그인으로 미룸)
+     */
+    public void upgradeInBackground(String rawPassword, Consumer<HashedPassword> onHashed) {
+        try {
+            executor.execute(() -> {
+                try {
+                    HashedPassword upgraded = hashTimer.record(
+                            () -> HashedPassword.fromHash(passwordEncoder.encode(rawPassword)));
+                    onHashed.accept(upgraded);
+                } catch (RuntimeException ex) {
+                    log.warn("비밀번호 재해싱 실패: {}", ex.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.debug("해싱 대기열이 가득 차 비밀번호 재해싱을 건너뜁니다");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> task, Timer waitTimer, Timer durationTimer) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return durationTimer.record(task);
+            });
+        } catch (RejectedExecutionException ex) {
+            queueFullCounter.increment();
+            log.warn("비밀번호 해싱 대기열이 가득 찼습니다");
+            throw new BusinessException(ErrorCode.COMMON_SERVICE_BUSY);
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            log.warn("비밀번호 해싱 대기 시간을 초과했습니다");
+            throw new BusinessException(ErrorCode.COMMON_SERVICE_BUSY);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.COMMON_SERVICE_BUSY);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static Timer waitTimer(MeterRegistry registry, String operation) {
+        return Timer.builder(METRIC_PREFIX + ".wait")
+                .description("해싱 대기열 대기 시간")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static Timer durationTimer(MeterRegistry registry, String operation) {
+        return Timer.builder(METRIC_PREFIX + ".duration")
+                .description("해싱 실행 시간")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열 초과 또는 대기 시간 초과로 거부된 요청 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
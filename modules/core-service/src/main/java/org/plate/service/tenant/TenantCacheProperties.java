@@ -0,0 +1,31 @@
+package org.plate.service.tenant;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 테넌트 소속 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.tenant")
+public class TenantCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (false면 매번 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최대 사용자 수
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * 유지 시간 (다른 노드의 변경이 반영되기까지의 최대 지연)
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,130 @@
+package org.plate.service.tenant;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.plate.repository.routing.ReadYourWrites;
+import org.plate.repository.tenant.TenantRepository;
+import org.plate.repository.tenant.projection.TenantMembership;
+import org.plate.service.cache.CacheLoaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 사용자별 테넌트 소속 캐시 (노드 로컬)
+ *
+ * 로그인/토큰 발급 시 메인 테넌트의 ID와 역할을 조회하는 데 사용한다.
+ * 조회된 값은 토큰에 담기므로 요청 처리 중에는 이 캐시나 DB를 조회하지 않는다.
+ * 소속이 없는 사용자도 빈 목록으로 캐시한다.
+ * 가상 스레드 모드에서는 로딩을 캐시 잠금 밖의 가상 스레드에서 실행한다 (CacheLoaders 참고).
+ * 소속 변경은 CacheInvalidationPublisher.tenantMembershipChanged로 알려 다른 노드의 캐시도 제거한다.
+ */
+@Service
+public class TenantMembershipCache {
+
+    private final TenantRepository tenantRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * 비활성화 시 null
+     */
+    private final AsyncLoadingCache<String, List<TenantMembership>> memberships;
+
+    public TenantMembershipCache(
+            TenantRepository tenantRepository,
+            TenantCacheProperties properties,
+            PlatformTransactionManager transactionManager,
+            ReadYourWrites readYourWrites,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readYourWrites = readYourWrites;
+        if (properties.isEnabled()) {
+            AsyncLoadingCache<String, List<TenantMembership>> cache = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumSize())
+                    .expireAfterWrite(properties.getTtl())
+                    .executor(CacheLoaders.executor(virtualThreads, "tenant-cache-loader-"))
+                    .recordStats()
+                    .buildAsync(this::load);
+            this.memberships = CaffeineCacheMetrics.monitor(meterRegistry, cache, "tenant.memberships");
+        } else {
+            this.memberships = null;
+        }
+    }
+
+    /**
+     * 사용자의 활성 테넌트 소속 (메인 테넌트가 첫 번째)
+     */
+    public List<TenantMembership> findByUserId(String userId) {
+        if (memberships == null) {
+            return load(userId);
+        }
+        try {
+            return memberships.get(userId).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 사용자의 메인 테넌트 (메인 지정이 없으면 가장 먼저 만든 소속)
+     */
+    public Optional<TenantMembership> findMain(String userId) {
+        return findByUserId(userId).stream().findFirst();
+    }
+
+    /**
+     * 사용자 소속 캐시 제거 (트랜잭션 중이면 커밋 후 제거)
+     */
+    public void evict(String userId) {
+        readYourWrites.markWritten(userId);
+        if (memberships == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberships.synchronous().invalidate(userId);
+                }
+            });
+        } else {
+            memberships.synchronous().invalidate(userId);
+        }
+    }
+
+    /**
+     * 이 노드의 캐시에서만 제거 (다른 노드의 변경 이벤트 수신 시)
+     */
+    public void evictLocal(String userId) {
+        if (memberships != null) {
+            memberships.synchronous().invalidate(userId);
+        }
+    }
+
+    /**
+     * 읽기 전용 트랜잭션으로 조회 (복제본 라우팅 대상, 최근 쓰기가 있었던 사용자는 primary)
+     */
+    private List<TenantMembership> load(String userId) {
+        try (ReadYourWrites.Binding ignored = readYourWrites.bind(userId)) {
+            return readOnlyTransaction.execute(status ->
+                    List.copyOf(tenantRepository.findActiveMembershipsByUserId(userId)));
+        }
+    }
+}
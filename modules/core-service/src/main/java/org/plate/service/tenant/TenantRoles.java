@@ -0,0 +1,30 @@
+package org.plate.service.tenant;
+
+import org.plate.common.enums.RoleType;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 테넌트 roleId → 전역 역할 변환
+ *
+ * 테넌트 roleId는 테넌트 안에서만 의미가 있으므로 허용 목록에 있는 값만 전역 역할로 옮긴다.
+ * ADMIN은 모든 권한을 가지므로 어떤 테넌트 역할로도 부여하지 않는다.
+ */
+public final class TenantRoles {
+
+    private static final Map<String, String> ALLOWED = Map.of(
+            "USER", RoleType.USER.name(),
+            "GUEST", RoleType.GUEST.name()
+    );
+
+    private TenantRoles() {
+    }
+
+    /**
+     * 허용 목록에 없는 값(admin 포함)은 null → 기본 역할
+     */
+    public static String globalRoleOf(String roleId) {
+        return roleId != null ? ALLOWED.get(roleId.toUpperCase(Locale.ROOT)) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package org.plate.service.user;
+
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * seq 키셋 커서 인코딩 (클라이언트에는 불투명한 문자열로 노출)
+ */
+final class SeqCursor {
+
+    private static final String PREFIX = "s:";
+
+    private SeqCursor() {
+        // 인스턴스화 방지
+    }
+
+    static String encode(int seq) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + seq).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 커서 -> 마지막으로 반환한 seq (커서가 없으면 0, 처음부터)
+     */
+    static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(PREFIX)) {
+                return Integer.parseInt(decoded.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException ex) {
+            // 아래에서 처리
+        }
+        throw new BusinessException(ErrorCode.COMMON_INVALID_REQUEST, "유효하지 않은 커서입니다");
+    }
+}
@@ -0,0 +1,267 @@
+package org.plate.service.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.repository.routing.ReadYourWrites;
+import org.plate.repository.user.UserRepository;
+import org.plate.repository.user.projection.UserSummary;
+import org.plate.service.cache.CacheLoaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 활성 사용자 2단계 캐시 (노드 로컬 Caffeine + Redis)
+ *
+ * id와 email 두 키로 UserSummary를 보관한다.
+ * 같은 키의 동시 미스는 Caffeine이 하나의 로딩으로 합치며, 로딩은 Redis -> DB 순서로 조회한다.
+ * 가상 스레드 모드에서는 로딩을 캐시 잠금 밖의 가상 스레드에서 실행한다 (CacheLoaders 참고).
+ * 존재하지 않는 사용자는 캐시하지 않는다.
+ * 변경 시에는 트랜잭션 커밋 후 두 단계 모두에서 제거한다.
+ * 다른 노드의 로컬 캐시는 무효화 스트림(cache.invalidation)으로 제거되며, 꺼져 있으면 local-ttl 이후 갱신된다.
+ * DB 조회는 읽기 전용 트랜잭션으로 실행하여 복제본 라우팅 대상이 되며, 최근 쓰기가 있었던 키는 primary에서 읽는다.
+ */
+@Slf4j
+@Service
+public class UserCache {
+
+    private static final String ID_KEY_PREFIX = "user:summary:id:";
+    private static final String EMAIL_KEY_PREFIX = "user:summary:email:";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserCacheProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * 비활성화 시 null
+     */
+    private final AsyncCache<String, UserSummary> byId;
+    private final AsyncCache<String, UserSummary> byEmail;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public UserCache(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            UserCacheProperties properties,
+            PlatformTransactionManager transactionManager,
+            ReadYourWrites readYourWrites,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readYourWrites = readYourWrites;
+
+        if (properties.isEnabled()) {
+            Executor loader = CacheLoaders.executor(virtualThreads, "user-cache-loader-");
+            this.byId = CaffeineCacheMetrics.monitor(meterRegistry, newLocalCache(loader), "user.by-id");
+            this.byEmail = CaffeineCacheMetrics.monitor(meterRegistry, newLocalCache(loader), "user.by-email");
+        } else {
+            this.byId = null;
+            this.byEmail = null;
+        }
+
+        this.redisHitCounter = redisCounter(meterRegistry, "hit");
+        this.redisMissCounter = redisCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * ID로 활성 사용자 조회
+     */
+    public Optional<UserSummary> findActiveById(String id) {
+        if (byId == null) {
+            return Optional.ofNullable(loadFromDatabase(id, () -> userRepository.findActiveSummaryById(id)));
+        }
+        return Optional.ofNullable(join(byId.get(id, (key, executor) -> CompletableFuture.supplyAsync(() ->
+                load(ID_KEY_PREFIX + key, key, () -> userRepository.findActiveSummaryById(key)), executor))));
+    }
+
+    /**
+     * 이메일로 활성 사용자 조회
+     */
+    public Optional<UserSummary> findActiveByEmail(String email) {
+        if (byEmail == null) {
+            return Optional.ofNullable(loadFromDatabase(email, () -> userRepository.findActiveSummaryByEmail(email)));
+        }
+        return Optional.ofNullable(join(byEmail.get(email, (key, executor) -> CompletableFuture.supplyAsync(() ->
+                load(EMAIL_KEY_PREFIX + key, key, () -> userRepository.findActiveSummaryByEmail(key)), executor))));
+    }
+
+    /**
+     * 사용자 캐시 제거 (트랜잭션 중이면 커밋 후 제거)
+     */
+    public void evict(String id, String email) {
+        if (byId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id, email);
+                }
+            });
+        } else {
+            evictNow(id, email);
+        }
+    }
+
+    /**
+     * 이 노드의 로컬 캐시에서만 제거 (다른 노드의 변경 이벤트 수신 시, Redis는 변경한 노드가 제거)
+     */
+    public void evictLocal(String id, String email) {
+        if (byId == null) {
+            return;
+        }
+        byId.synchronous().invalidate(id);
+        if (email != null) {
+            byEmail.synchronous().invalidate(email);
+        }
+    }
+
+    /**
+     * 기동 시 최근 갱신된 활성 사용자를 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (byId == null || !properties.isWarmUpEnabled()) {
+            return;
+        }
+        try {
+            List<UserSummary> users = userRepository.findRecentlyUpdatedActiveSummaries(
+                    PageRequest.of(0, properties.getWarmUpSize()));
+            for (UserSummary summary : users) {
+                byId.synchronous().put(summary.id(), summary);
+                byEmail.synchronous().put(summary.email(), summary);
+                writeRedis(summary);
+            }
+            log.info("사용자 캐시 적재 완료 - {}명", users.size());
+        } catch (RuntimeException ex) {
+            log.warn("사용자 캐시 적재 실패: {}", ex.getMessage());
+        }
+    }
+
+    private UserSummary load(String redisKey, String subject, Supplier<Optional<UserSummary>> loader) {
+        UserSummary cached = readRedis(redisKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserSummary loaded = loadFromDatabase(subject, loader);
+        if (loaded != null) {
+            writeRedis(loaded);
+        }
+        return loaded;
+    }
+
+    private UserSummary loadFromDatabase(String subject, Supplier<Optional<UserSummary>> loader) {
+        try (ReadYourWrites.Binding ignored = readYourWrites.bind(subject)) {
+            return readOnlyTransaction.execute(status -> loader.get().orElse(null));
+        }
+    }
+
+    private UserSummary readRedis(String key) {
+        if (!properties.isRedisEnabled()) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                redisMissCounter.increment();
+                return null;
+            }
+            redisHitCounter.increment();
+            return objectMapper.readValue(json, UserSummary.class);
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("사용자 캐시 조회 실패 - {}: {}", key, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(UserSummary summary) {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(summary);
+            redisTemplate.opsForValue().set(ID_KEY_PREFIX + summary.id(), json, properties.getRedisTtl());
+            redisTemplate.opsForValue().set(EMAIL_KEY_PREFIX + summary.email(), json, properties.getRedisTtl());
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("사용자 캐시 저장 실패 - {}: {}", summary.id(), ex.getMessage());
+        }
+    }
+
+    private void evictNow(String id, String email) {
+        evictLocal(id, email);
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(email != null
+                    ? List.of(ID_KEY_PREFIX + id, EMAIL_KEY_PREFIX + email)
+                    : List.of(ID_KEY_PREFIX + id));
+        } catch (RuntimeException ex) {
+            log.warn("사용자 캐시 제거 실패 - {}: {}", id, ex.getMessage());
+        }
+    }
+
+    private AsyncCache<String, UserSummary> newLocalCache(Executor loader) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .executor(loader)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 로딩 결과 대기 (로딩 중 발생한 예외는 그대로 전달)
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Counter redisCounter(MeterRegistry registry, String result) {
+        return Counter.builder("user.cache.redis")
+                .description("사용자 캐시 Redis 조회 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
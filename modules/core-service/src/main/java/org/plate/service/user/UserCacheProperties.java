@@ -0,0 +1,51 @@
+package org.plate.service.user;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 활성 사용자 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.user")
+public class UserCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (false면 매번 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 노드 로컬 캐시 최대 항목 수 (id, email 각각)
+     */
+    private long localMaximumSize = 10_000;
+
+    /**
+     * 노드 로컬 캐시 유지 시간 (다른 노드의 변경이 반영되기까지의 최대 지연)
+     */
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    /**
+     * Redis 캐시 사용 여부
+     */
+    private boolean redisEnabled = true;
+
+    /**
+     * Redis 캐시 유지 시간
+     */
+    private Duration redisTtl = Duration.ofMinutes(10);
+
+    /**
+     * 기동 시 최근 갱신된 활성 사용자를 미리 적재
+     */
+    private boolean warmUpEnabled = false;
+
+    /**
+     * 미리 적재할 사용자 수
+     */
+    private int warmUpSize = 1_000;
+}
@@ -0,0 +1,88 @@
+package org.plate.service.user;
+
+import lombok.RequiredArgsConstructor;
+import org.plate.common.constant.ApiConstants;
+import org.plate.common.response.CursorPage;
+import org.plate.dto.user.response.UserListItemResponse;
+import org.plate.repository.tenant.TenantRepository;
+import org.plate.repository.tenant.projection.TenantMembership;
+import org.plate.repository.user.UserRepository;
+import org.plate.repository.user.projection.UserDirectoryRow;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 목록 조회
+ *
+ * seq 기준 키셋 페이지네이션으로 OFFSET/COUNT 없이 페이지 깊이와 관계없이 같은 비용으로 조회하고,
+ * 페이지에 포함된 사용자의 테넌트 소속은 IN 쿼리 한 번으로 가져온다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserDirectoryService {
+
+    private final UserRepository userRepository;
+    private final TenantRepository tenantRepository;
+
+    /**
+     * 활성 사용자 목록 (cursor 이후, 최대 size개)
+     */
+    public CursorPage<UserListItemResponse> findPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        int afterSeq = SeqCursor.decode(cursor);
+
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        List<UserDirectoryRow> rows = userRepository.findActiveDirectoryAfter(afterSeq, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        Map<String, List<TenantMembership>> memberships = rows.isEmpty()
+                ? Map.of()
+                : tenantRepository.findActiveMembershipsByUserIdIn(rows.stream().map(UserDirectoryRow::id).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(TenantMembership::userId));
+
+        List<UserListItemResponse> items = rows.stream()
+                .map(row -> toResponse(row, memberships.getOrDefault(row.id(), List.of())))
+                .toList();
+
+        return CursorPage.<UserListItemResponse>builder()
+                .items(items)
+                .nextCursor(hasNext ? SeqCursor.encode(rows.get(rows.size() - 1).seq()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return ApiConstants.DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, ApiConstants.MAX_PAGE_SIZE);
+    }
+
+    private static UserListItemResponse toResponse(UserDirectoryRow row, List<TenantMembership> memberships) {
+        return UserListItemResponse.builder()
+                .id(row.id())
+                .email(row.email())
+                .name(row.name())
+                .phone(row.phone())
+                .createdAt(row.createdAt())
+                .tenants(memberships.stream()
+                        .map(membership -> UserListItemResponse.TenantMembershipResponse.builder()
+                                .tenantId(membership.tenantId())
+                                .spaceId(membership.spaceId())
+                                .roleId(membership.roleId())
+                                .main(membership.main())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package org.plate.service.user;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.plate.common.enums.ErrorCode;
+import org.plate.entity.user.User;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * users 테이블 유니크 제약 조건 위반 -> 에러 코드 변환
+ */
+public final class UserDuplicateErrors {
+
+    /**
+     * 유니크 제약 조건별 에러 코드
+     */
+    private static final Map<String, ErrorCode> DUPLICATE_ERRORS = Map.of(
+            User.UK_EMAIL, ErrorCode.USER_EMAIL_DUPLICATE,
+            User.UK_PHONE, ErrorCode.USER_PHONE_DUPLICATE,
+            User.UK_NAME, ErrorCode.USER_NAME_DUPLICATE
+    );
+
+    private UserDuplicateErrors() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 위반한 제약 조건에 해당하는 에러 코드 (알 수 없으면 USER_ALREADY_EXISTS)
+     * JPA 경로는 Hibernate가 추출한 제약 조건 이름을, JDBC 경로는 드라이버 메시지를 사용한다
+     */
+    public static ErrorCode resolve(DataIntegrityViolationException ex) {
+        // DB마다 제약 조건 이름의 대소문자와 접두어가 달라 포함 여부로 비교
+        String constraint = ex.getCause() instanceof ConstraintViolationException cve
+                ? cve.getConstraintName()
+                : null;
+        String source = (constraint != null ? constraint : String.valueOf(ex.getMostSpecificCause().getMessage()))
+                .toLowerCase(Locale.ROOT);
+
+        return DUPLICATE_ERRORS.entrySet().stream()
+                .filter(entry -> source.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(ErrorCode.USER_ALREADY_EXISTS);
+    }
+}
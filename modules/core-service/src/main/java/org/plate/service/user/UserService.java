@@ -6,8 +6,15 @@ import org.plate.common.enums.ErrorCode;
 import org.plate.common.exception.BusinessException;
 import org.plate.entity.user.User;
 import org.plate.repository.user.UserRepository;
+import org.plate.repository.routing.ReadYourWrites;
+import org.plate.repository.user.projection.UserCredentials;
+import org.plate.security.refresh.RefreshTokenFamilyService;
+import org.plate.service.cache.CacheInvalidationPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -22,6 +29,9 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ReadYourWrites readYourWrites;
+    private final RefreshTokenFamilyService refreshTokenFamilyService;
 
     /**
      * ID로 사용자 조회
@@ -46,6 +56,15 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * 이메일로 활성 사용자 로그인 정보 조회 (엔티티 로딩 없이)
+     */
+    public Optional<UserCredentials> findActiveCredentialsByEmail(String email) {
+        try (ReadYourWrites.Binding ignored = readYourWrites.bind(email)) {
+            return userRepository.findActiveCredentialsByEmail(email);
+        }
+    }
+
     /**
      * 이메일로 활성 사용자 조회
      */
@@ -62,20 +81,72 @@ public class UserService {
     }
 
     /**
-     * 사용자 저장
+     * 사용자 저장 (커밋 후 캐시 제거, 다른 노드에는 아웃박스로 전달)
      */
     @Transactional
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        cacheInvalidationPublisher.userChanged(saved.getId(), saved.getEmail());
+        readYourWrites.markWritten(saved.getId(), saved.getEmail());
+        return saved;
+    }
+
+    /**
+     * 신규 사용자 저장 (INSERT 한 번, 중복은 유니크 제약 조건으로 판정)
+     * 미리 존재 여부를 조회하지 않으므로 동시 가입 요청도 한쪽만 성공한다
+     */
+    @Transactional
+    public User create(User user) {
+        try {
+            User saved = userRepository.saveAndFlush(user);
+            readYourWrites.markWritten(saved.getId(), saved.getEmail());
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            throw new BusinessException(UserDuplicateErrors.resolve(ex));
+        }
     }
 
     /**
-     * 사용자 삭제 (소프트 삭제)
+     * 비밀번호 해시 업그레이드 (그 사이 비밀번호가 바뀌었으면 무시)
+     */
+    @Transactional
+    public void upgradePasswordHash(String id, String currentHash, String newHash) {
+        int updated = userRepository.updatePasswordHash(id, currentHash, newHash);
+        if (updated > 0) {
+            log.info("비밀번호 해시 업그레이드 - 사용자: {}", id);
+        }
+    }
+
+    /**
+     * 사용자 삭제 (소프트 삭제, 커밋 후 캐시 제거, 다른 노드에는 아웃박스로 전달)
+     * 커밋 후 그 사용자의 Refresh Token 패밀리도 모두 폐기한다
      */
     @Transactional
     public void delete(String id) {
         User user = findById(id);
         user.softDelete();
         userRepository.save(user);
+        cacheInvalidationPublisher.userChanged(user.getId(), user.getEmail());
+        readYourWrites.markWritten(user.getId(), user.getEmail());
+        revokeRefreshFamilies(user.getId());
+    }
+
+    /**
+     * 사용자의 Refresh Token 패밀리 전체 폐기 (트랜잭션 중이면 커밋 후 폐기)
+     */
+    private void revokeRefreshFamilies(String id) {
+        if (!refreshTokenFamilyService.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshTokenFamilyService.revokeAll(id);
+                }
+            });
+        } else {
+            refreshTokenFamilyService.revokeAll(id);
+        }
     }
 }
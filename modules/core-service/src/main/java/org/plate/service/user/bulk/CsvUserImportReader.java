@@ -0,0 +1,194 @@
+package org.plate.service.user.bulk;
+
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.BusinessException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 리더 (RFC 4180)
+ *
+ * 첫 행은 헤더이며 email, password, name, phone 열이 순서와 관계없이 있어야 한다.
+ * 따옴표로 감싼 필드의 쉼표, 줄바꿈, "" 이스케이프를 지원한다.
+ */
+final class CsvUserImportReader implements UserImportReader {
+
+    private static final List<String> COLUMNS = List.of("email", "password", "name", "phone");
+
+    private final Reader reader;
+    private final int[] columnIndexes = new int[COLUMNS.size()];
+
+    /**
+     * 다음에 읽을 문자가 있는 줄 번호
+     */
+    private long line = 1;
+
+    /**
+     * 미리 읽은 문자 (-2면 없음)
+     */
+    private int pushedBack = -2;
+
+    CsvUserImportReader(Reader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        while (true) {
+            long recordLine = line;
+            Record record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.isBlank()) {
+                continue;
+            }
+            if (record.error != null) {
+                return UserImportRow.invalid(recordLine, record.error);
+            }
+            if (record.fields.size() < COLUMNS.size()) {
+                return UserImportRow.invalid(recordLine, "열 개수가 헤더보다 적습니다");
+            }
+            return new UserImportRow(
+                    recordLine,
+                    field(record, 0),
+                    field(record, 1),
+                    field(record, 2),
+                    field(record, 3),
+                    null
+            );
+        }
+    }
+
+    private void readHeader() throws IOException {
+        Record header = readRecord();
+        if (header == null || header.error != null) {
+            throw new BusinessException(ErrorCode.COMMON_INVALID_REQUEST, "CSV 헤더가 없습니다");
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.fields.size(); i++) {
+            String name = header.fields.get(i).strip().toLowerCase(Locale.ROOT);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            positions.putIfAbsent(name, i);
+        }
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            Integer position = positions.get(COLUMNS.get(i));
+            if (position == null) {
+                throw new BusinessException(ErrorCode.COMMON_INVALID_REQUEST,
+                        "CSV 헤더에 " + COLUMNS.get(i) + " 열이 없습니다");
+            }
+            columnIndexes[i] = position;
+        }
+    }
+
+    private String field(Record record, int column) {
+        int index = columnIndexes[column];
+        return index < record.fields.size() ? record.fields.get(index).strip() : null;
+    }
+
+    /**
+     * 레코드 하나 읽기 (끝이면 null)
+     */
+    private Record readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>(COLUMNS.size());
+        StringBuilder field = new StringBuilder();
+        String error = null;
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return new Record(fields, "닫히지 않은 따옴표가 있습니다");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        error = append(field, '"', error);
+                        c = read();
+                    } else {
+                        quoted = false;
+                        c = next;
+                    }
+                    continue;
+                }
+                if (c == '\n') {
+                    line++;
+                }
+                error = append(field, (char) c, error);
+                c = read();
+                continue;
+            }
+
+            if (c == -1 || c == '\n') {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return new Record(fields, error);
+            }
+            if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    unread(next);
+                    line++;
+                    fields.add(field.toString());
+                    return new Record(fields, error);
+                }
+                c = next;
+                continue;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                error = append(field, (char) c, error);
+            }
+            c = read();
+        }
+    }
+
+    private static String append(StringBuilder field, char c, String error) {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            return "필드 길이가 " + MAX_FIELD_LENGTH + "자를 넘습니다";
+        }
+        field.append(c);
+        return error;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    private record Record(List<String> fields, String error) {
+        boolean isBlank() {
+            return error == null && fields.size() == 1 && fields.get(0).isBlank();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.plate.service.user.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON 리더 (한 줄에 JSON 객체 하나)
+ * 각 객체는 email, password, name, phone 문자열 필드를 가진다
+ */
+final class NdjsonUserImportReader implements UserImportReader {
+
+    /**
+     * 한 줄의 최대 길이 (필드 4개 기준 여유 있게)
+     */
+    private static final int MAX_LINE_LENGTH = MAX_FIELD_LENGTH * 8;
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    NdjsonUserImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            if (text.length() > MAX_LINE_LENGTH) {
+                return UserImportRow.invalid(line, "줄 길이가 " + MAX_LINE_LENGTH + "자를 넘습니다");
+            }
+            return parse(text);
+        }
+        return null;
+    }
+
+    private UserImportRow parse(String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException ex) {
+            return UserImportRow.invalid(line, "JSON 형식이 올바르지 않습니다");
+        }
+        if (!node.isObject()) {
+            return UserImportRow.invalid(line, "JSON 객체가 아닙니다");
+        }
+        return new UserImportRow(
+                line,
+                text(node, "email"),
+                text(node, "password"),
+                text(node, "name"),
+                text(node, "phone"),
+                null
+        );
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && value.isTextual() ? value.textValue().strip() : null;
+    }
+}
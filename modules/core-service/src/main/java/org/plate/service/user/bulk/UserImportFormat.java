@@ -0,0 +1,49 @@
+package org.plate.service.user.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.BusinessException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 대량 등록 입력 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    /**
+     * Content-Type 헤더로 형식 결정 (charset 등 파라미터는 무시)
+     */
+    public static UserImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String mediaType = contentType.split(";", 2)[0].strip().toLowerCase(Locale.ROOT);
+            for (UserImportFormat format : values()) {
+                if (format.contentType.equals(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new BusinessException(ErrorCode.COMMON_INVALID_REQUEST, "지원하지 않는 형식입니다: " + contentType);
+    }
+
+    UserImportReader open(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return switch (this) {
+            case CSV -> new CsvUserImportReader(reader);
+            case NDJSON -> new NdjsonUserImportReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package org.plate.service.user.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 사용자 대량 등록 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.import")
+public class UserImportProperties {
+
+    /**
+     * 한 번에 해싱하고 INSERT하는 행 수 (메모리 사용량의 상한)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 해싱 스레드 수 (0이면 CPU 코어 수)
+     */
+    private int hashThreads = 0;
+
+    /**
+     * 대량 등록용 BCrypt cost (0이면 로그인과 같은 cost)
+     * 낮추면 등록은 빨라지고, 해당 사용자의 첫 로그인 시 현재 cost로 재해싱된다
+     */
+    private int hashStrength = 0;
+
+    /**
+     * 응답에 포함할 최대 행별 오류 수
+     */
+    private int maxReportedErrors = 1_000;
+
+    public int resolveHashThreads() {
+        return hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
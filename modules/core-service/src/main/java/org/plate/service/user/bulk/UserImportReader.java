@@ -0,0 +1,19 @@
+package org.plate.service.user.bulk;
+
+import java.io.IOException;
+
+/**
+ * 입력 스트림에서 한 행씩 읽는 리더 (전체를 메모리에 올리지 않는다)
+ */
+interface UserImportReader {
+
+    /**
+     * 필드 하나의 최대 길이 (초과 시 해당 행만 오류 처리)
+     */
+    int MAX_FIELD_LENGTH = 1_024;
+
+    /**
+     * 다음 행 (끝이면 null)
+     */
+    UserImportRow next() throws IOException;
+}
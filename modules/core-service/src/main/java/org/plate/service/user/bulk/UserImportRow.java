@@ -0,0 +1,25 @@
+package org.plate.service.user.bulk;
+
+/**
+ * 입력 파일의 한 행
+ *
+ * @param line  입력 파일의 줄 번호 (1부터)
+ * @param error 파싱 오류 메시지 (정상 행이면 null)
+ */
+record UserImportRow(
+        long line,
+        String email,
+        String password,
+        String name,
+        String phone,
+        String error
+) {
+    static UserImportRow invalid(long line, String error) {
+        return new UserImportRow(line, null, null, null, null, error);
+    }
+
+    @Override
+    public String toString() {
+        return "UserImportRow[line=" + line + ", email=" + email + "]";
+    }
+}
@@ -0,0 +1,242 @@
+package org.plate.service.user.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.BusinessException;
+import org.plate.dto.auth.request.SignUpRequest;
+import org.plate.dto.user.response.UserImportResponse;
+import org.plate.entity.base.id.UuidV7;
+import org.plate.repository.user.UserBatchRepository;
+import org.plate.service.password.PasswordEncoders;
+import org.plate.service.user.UserDuplicateErrors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 대량 등록
+ *
+ * 입력을 chunk-size 행씩 읽어 비밀번호를 병렬로 해싱한 뒤 JDBC 배치로 INSERT한다.
+ * 메모리에는 항상 한 청크만 올라가므로 파일 크기와 관계없이 사용량이 일정하다.
+ * 청크 배치가 실패하면 그 청크만 행 단위로 다시 INSERT하여 실패한 행을 찾아낸다.
+ *
+ * 해싱은 로그인용 풀(PasswordHashingService)과 분리된 전용 풀에서 실행하며,
+ * 노드당 동시에 하나의 등록만 허용한다.
+ */
+@Slf4j
+@Service
+public class UserImportService implements DisposableBean {
+
+    private final UserBatchRepository userBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UserImportProperties properties;
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService hashExecutor;
+    private final Semaphore running = new Semaphore(1);
+
+    public UserImportService(
+            UserBatchRepository userBatchRepository,
+            PlatformTransactionManager transactionManager,
+            Validator validator,
+            ObjectMapper objectMapper,
+            PasswordEncoder passwordEncoder,
+            UserImportProperties properties
+    ) {
+        this.userBatchRepository = userBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.passwordEncoder = properties.getHashStrength() > 0
+                ? PasswordEncoders.delegating(properties.getHashStrength())
+                : passwordEncoder;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(properties.resolveHashThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hasher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 입력 스트림의 사용자를 등록하고 결과 반환
+     */
+    public UserImportResponse importUsers(InputStream inputStream, UserImportFormat format) {
+        if (!running.tryAcquire()) {
+            throw new BusinessException(ErrorCode.COMMON_SERVICE_BUSY, "이미 진행 중인 대량 등록이 있습니다");
+        }
+        try {
+            return doImport(inputStream, format);
+        } catch (IOException ex) {
+            // 요청 본문을 끝까지 읽지 못한 경우 (클라이언트 연결 종료 등)
+            throw new BusinessException(ErrorCode.COMMON_INVALID_REQUEST, ex);
+        } finally {
+            running.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdownNow();
+    }
+
+    private UserImportResponse doImport(InputStream inputStream, UserImportFormat format) throws IOException {
+        long startedAt = System.nanoTime();
+        UserImportReader reader = format.open(inputStream, objectMapper);
+        Report report = new Report(properties.getMaxReportedErrors());
+        List<UserImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+
+        UserImportRow row;
+        while ((row = reader.next()) != null) {
+            report.total++;
+
+            String violation = row.error() != null ? row.error() : validate(row);
+            if (violation != null) {
+                report.fail(row.line(), ErrorCode.VALIDATION_ERROR, violation);
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() >= properties.getChunkSize()) {
+                processChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, report);
+        }
+
+        log.info("사용자 대량 등록 완료 - 전체: {}, 등록: {}, 실패: {}, 소요: {}ms",
+                report.total, report.imported, report.failed, (System.nanoTime() - startedAt) / 1_000_000);
+
+        return report.toResponse();
+    }
+
+    /**
+     * 회원가입과 같은 규칙으로 검증 (첫 번째 위반 메시지)
+     */
+    private String validate(UserImportRow row) {
+        SignUpRequest request = SignUpRequest.builder()
+                .email(row.email())
+                .password(row.password())
+                .name(row.name())
+                .phone(row.phone())
+                .build();
+        Set<ConstraintViolation<SignUpRequest>> violations = validator.validate(request);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private void processChunk(List<UserImportRow> chunk, Report report) {
+        // 청크 전체를 해싱 풀에 제출하고 순서대로 수집
+        List<Future<String>> hashes = new ArrayList<>(chunk.size());
+        for (UserImportRow row : chunk) {
+            hashes.add(hashExecutor.submit(() -> passwordEncoder.encode(row.password())));
+        }
+
+        List<UserImportRow> hashedRows = new ArrayList<>(chunk.size());
+        List<UserBatchRepository.Row> inserts = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            UserImportRow row = chunk.get(i);
+            try {
+                String hash = hashes.get(i).get();
+                hashedRows.add(row);
+                inserts.add(new UserBatchRepository.Row(
+                        UuidV7.nextString(), row.email(), hash, row.name(), row.phone()));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                hashes.forEach(future -> future.cancel(true));
+                throw new BusinessException(ErrorCode.COMMON_INTERNAL_ERROR, ex);
+            } catch (ExecutionException ex) {
+                report.fail(row.line(), ErrorCode.COMMON_INTERNAL_ERROR, "비밀번호 해싱에 실패했습니다");
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            insert(hashedRows, inserts, report);
+        }
+    }
+
+    private void insert(List<UserImportRow> rows, List<UserBatchRepository.Row> inserts, Report report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userBatchRepository.insertAll(inserts));
+            report.imported += inserts.size();
+            return;
+        } catch (DataAccessException ex) {
+            log.debug("배치 INSERT 실패, 행 단위로 재시도 - 첫 줄: {}", rows.get(0).line());
+        }
+
+        // 배치 트랜잭션은 롤백되었으므로 행마다 독립적으로 INSERT
+        for (int i = 0; i < inserts.size(); i++) {
+            long line = rows.get(i).line();
+            try {
+                userBatchRepository.insert(inserts.get(i));
+                report.imported++;
+            } catch (DataIntegrityViolationException ex) {
+                ErrorCode errorCode = UserDuplicateErrors.resolve(ex);
+                report.fail(line, errorCode, errorCode.getMessage());
+            } catch (DataAccessException ex) {
+                report.fail(line, ErrorCode.COMMON_INTERNAL_ERROR, ErrorCode.COMMON_INTERNAL_ERROR.getMessage());
+                log.warn("사용자 등록 실패 - 줄: {}, {}", line, ex.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * 진행 집계 (오류는 최대 개수까지만 보관)
+     */
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<UserImportResponse.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, ErrorCode errorCode, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(UserImportResponse.RowError.builder()
+                        .line(line)
+                        .errorCode(errorCode.getCode())
+                        .message(message)
+                        .build());
+            }
+        }
+
+        private UserImportResponse toResponse() {
+            return UserImportResponse.builder()
+                    .totalRows(total)
+                    .importedRows(imported)
+                    .failedRows(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
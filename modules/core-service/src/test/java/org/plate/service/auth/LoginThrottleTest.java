@@ -0,0 +1,180 @@
+package org.plate.service.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.TooManyRequestsException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class LoginThrottleTest {
+
+    private static final String EMAIL_KEY = "auth:login-failures:email:user@plate.dev";
+    private static final String IP_KEY = "auth:login-failures:ip:10.0.0.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StringRedisTemplate redisTemplate;
+    private LoginThrottleProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        properties = new LoginThrottleProperties();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 제한하지 않고 Redis도 사용하지 않는다")
+    void disabledDoesNotThrottle() {
+        properties.setEnabled(false);
+        properties.setIpAttempts(1);
+        LoginThrottle throttle = throttle();
+
+        for (int i = 0; i < 5; i++) {
+            LoginThrottle.LoginAttempt attempt = throttle.acquire("user@plate.dev", "10.0.0.1");
+            throttle.recordFailure(attempt);
+        }
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("IP 버킷을 다 쓰면 계정이 달라도 429로 거부한다")
+    void throttlesPerIp() {
+        properties.setRedisEnabled(false);
+        properties.setIpAttempts(2);
+        LoginThrottle throttle = throttle();
+
+        throttle.acquire("a@plate.dev", "10.0.0.1");
+        throttle.acquire("b@plate.dev", "10.0.0.1");
+
+        assertThatThrownBy(() -> throttle.acquire("c@plate.dev", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+        assertThat(throttled("ip")).isEqualTo(1);
+
+        // 다른 IP는 영향 없음
+        throttle.acquire("c@plate.dev", "10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("계정 버킷은 대소문자/공백을 정규화한 이메일 기준이다")
+    void throttlesPerNormalizedEmail() {
+        properties.setRedisEnabled(false);
+        properties.setEmailAttempts(2);
+        LoginThrottle throttle = throttle();
+
+        throttle.acquire("User@Plate.dev", "10.0.0.1");
+        throttle.acquire(" user@plate.dev ", "10.0.0.2");
+
+        assertThatThrownBy(() -> throttle.acquire("USER@PLATE.DEV", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(throttled("email")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계정 실패 횟수가 한도에 도달하면 남은 잠금 시간을 Retry-After로 알린다")
+    void locksAccountAfterMaxFailures() {
+        properties.setMaxFailuresPerEmail(10);
+        doReturn(List.of(10L, 60_000L, 10L, 60_000L)).when(redisTemplate).execute(any(RedisScript.class), anyList());
+        LoginThrottle throttle = throttle();
+
+        assertThatThrownBy(() -> throttle.acquire("user@plate.dev", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 61L);
+        assertThat(throttled("locked")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IP 실패 횟수의 TTL이 없으면 집계 기간 전체를 Retry-After로 사용한다")
+    void locksIpWithFailureWindowWhenTtlMissing() {
+        properties.setMaxFailuresPerIp(100);
+        properties.setFailureWindow(Duration.ofMinutes(15));
+        doReturn(List.of(0L, -2L, 100L, -1L)).when(redisTemplate).execute(any(RedisScript.class), anyList());
+        LoginThrottle throttle = throttle();
+
+        assertThatThrownBy(() -> throttle.acquire("user@plate.dev", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 900L);
+    }
+
+    @Test
+    @DisplayName("한도 미만이면 허용하고, 실패 이력이 있을 때만 성공 시 계정 횟수를 초기화한다")
+    void clearsAccountFailuresOnlyWhenSeen() {
+        doReturn(List.of(3L, 60_000L, 3L, 60_000L)).when(redisTemplate).execute(any(RedisScript.class), anyList());
+        LoginThrottle throttle = throttle();
+
+        LoginThrottle.LoginAttempt attempt = throttle.acquire("user@plate.dev", "10.0.0.1");
+        throttle.recordSuccess(attempt);
+
+        assertThat(attempt.hadFailures()).isTrue();
+        verify(redisTemplate).delete(EMAIL_KEY);
+    }
+
+    @Test
+    @DisplayName("실패 이력이 없으면 성공 시 Redis를 호출하지 않는다")
+    void skipsResetWithoutFailures() {
+        doReturn(List.of(0L, -2L, 0L, -2L)).when(redisTemplate).execute(any(RedisScript.class), anyList());
+        LoginThrottle throttle = throttle();
+
+        LoginThrottle.LoginAttempt attempt = throttle.acquire("user@plate.dev", "10.0.0.1");
+        throttle.recordSuccess(attempt);
+
+        assertThat(attempt.hadFailures()).isFalse();
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("실패는 계정/IP 키에 집계 기간과 함께 기록한다")
+    void recordsFailureWithWindow() {
+        properties.setFailureWindow(Duration.ofMinutes(15));
+        doReturn(List.of(0L, -2L, 0L, -2L)).when(redisTemplate).execute(any(RedisScript.class), anyList());
+        LoginThrottle throttle = throttle();
+
+        throttle.recordFailure(throttle.acquire("user@plate.dev", "10.0.0.1"));
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(EMAIL_KEY, IP_KEY)), eq("900000"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 버킷만으로 판단한다")
+    void fallsBackToLocalBucketsOnRedisError() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList());
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), anyString());
+        LoginThrottle throttle = throttle();
+
+        LoginThrottle.LoginAttempt attempt = throttle.acquire("user@plate.dev", "10.0.0.1");
+        throttle.recordFailure(attempt);
+
+        assertThat(attempt.emailKey()).isEqualTo(EMAIL_KEY);
+        assertThat(attempt.ipKey()).isEqualTo(IP_KEY);
+    }
+
+    private LoginThrottle throttle() {
+        return new LoginThrottle(properties, redisTemplate, meterRegistry);
+    }
+
+    private double throttled(String reason) {
+        return meterRegistry.get("auth.login.throttled").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,58 @@
+package org.plate.service.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedTokenBucketsTest {
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용한 뒤 다음 토큰까지 남은 시간을 반환한다")
+    void allowsCapacityThenReturnsWait() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(3, Duration.ofMinutes(1), 1_000);
+
+        assertThat(buckets.tryConsume("10.0.0.1")).isZero();
+        assertThat(buckets.tryConsume("10.0.0.1")).isZero();
+        assertThat(buckets.tryConsume("10.0.0.1")).isZero();
+
+        long waitNanos = buckets.tryConsume("10.0.0.1");
+        assertThat(waitNanos).isPositive();
+        // 토큰 하나가 차는 데 최대 refill-period / 크기 (20초)
+        assertThat(Duration.ofNanos(waitNanos)).isLessThanOrEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    @DisplayName("키마다 버킷을 따로 둔다")
+    void keepsSeparateBucketsPerKey() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, Duration.ofMinutes(1), 1_000);
+
+        assertThat(buckets.tryConsume("10.0.0.1")).isZero();
+        assertThat(buckets.tryConsume("10.0.0.1")).isPositive();
+        assertThat(buckets.tryConsume("10.0.0.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 찬다")
+    void refillsOverTime() throws InterruptedException {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(2, Duration.ofMillis(100), 1_000);
+        buckets.tryConsume("user@plate.dev");
+        buckets.tryConsume("user@plate.dev");
+        assertThat(buckets.tryConsume("user@plate.dev")).isPositive();
+
+        Thread.sleep(150);
+
+        assertThat(buckets.tryConsume("user@plate.dev")).isZero();
+    }
+
+    @Test
+    @DisplayName("크기가 0 이하로 설정되어도 최소 한 번은 허용한다")
+    void clampsCapacityToOne() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(0, Duration.ofMinutes(1), 1_000);
+
+        assertThat(buckets.tryConsume("10.0.0.1")).isZero();
+        assertThat(buckets.tryConsume("10.0.0.1")).isPositive();
+    }
+}
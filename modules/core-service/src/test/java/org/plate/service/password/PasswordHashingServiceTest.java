@@ -0,0 +1,181 @@
+package org.plate.service.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.plate.common.enums.ErrorCode;
+import org.plate.common.exception.BusinessException;
+import org.plate.vo.password.HashedPassword;
+import org.plate.vo.password.PlainPassword;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 해싱하고 비교한다")
+    void hashesAndMatches() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), properties(2, 4, Duration.ofSeconds(5)), meterRegistry);
+
+        HashedPassword hashed = service.hash(PlainPassword.of("password-1234"));
+
+        assertThat(hashed.getValue()).startsWith("$2a$04$");
+        assertThat(service.matches(hashed, "password-1234")).isTrue();
+        assertThat(service.matches(hashed, "password-5678")).isFalse();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "verify").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 COMMON_SERVICE_BUSY로 실패한다")
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        BlockingEncoder encoder = new BlockingEncoder(release);
+        service = new PasswordHashingService(encoder, properties(1, 1, Duration.ofSeconds(5)), meterRegistry);
+
+        // 스레드 1개를 점유하고 대기열 1칸을 채운다
+        service.upgradeInBackground("password-1234", hashed -> { });
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+        service.upgradeInBackground("password-1234", hashed -> { });
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> service.hash(PlainPassword.of("password-1234")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COMMON_SERVICE_BUSY);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 COMMON_SERVICE_BUSY로 실패한다")
+    void rejectsAfterMaxWait() throws InterruptedException {
+        BlockingEncoder encoder = new BlockingEncoder(release);
+        service = new PasswordHashingService(encoder, properties(1, 4, Duration.ofMillis(100)), meterRegistry);
+
+        service.upgradeInBackground("password-1234", hashed -> { });
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.matches(HashedPassword.fromHash("hash"), "password-1234"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COMMON_SERVICE_BUSY);
+
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("백그라운드 재해싱은 대기열이 가득 차면 예외 없이 건너뛴다")
+    void skipsBackgroundUpgradeWhenQueueIsFull() throws InterruptedException {
+        BlockingEncoder encoder = new BlockingEncoder(release);
+        service = new PasswordHashingService(encoder, properties(1, 1, Duration.ofSeconds(5)), meterRegistry);
+
+        service.upgradeInBackground("password-1234", hashed -> { });
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+        service.upgradeInBackground("password-1234", hashed -> { });
+
+        assertThatCode(() -> service.upgradeInBackground("password-1234", hashed -> { }))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("백그라운드 재해싱 결과를 콜백으로 전달한다")
+    void deliversBackgroundUpgrade() throws InterruptedException {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), properties(1, 4, Duration.ofSeconds(5)), meterRegistry);
+        AtomicReference<HashedPassword> upgraded = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        service.upgradeInBackground("password-1234", hashed -> {
+            upgraded.set(hashed);
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.matches(upgraded.get(), "password-1234")).isTrue();
+    }
+
+    @Test
+    @DisplayName("인코더 예외는 감싸지 않고 그대로 전달한다")
+    void propagatesEncoderException() {
+        PasswordEncoder failing = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("encode failed");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        service = new PasswordHashingService(failing, properties(1, 4, Duration.ofSeconds(5)), meterRegistry);
+
+        assertThatThrownBy(() -> service.hash(PlainPassword.of("password-1234")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("encode failed");
+    }
+
+    private static PasswordHashingProperties properties(int threads, int queueCapacity, Duration maxWait) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMaxWait(maxWait);
+        return properties;
+    }
+
+    /**
+     * release 전까지 해싱/비교를 멈추는 인코더 (풀 점유 재현용)
+     */
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            block();
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            block();
+            return true;
+        }
+
+        private void block() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -9,6 +9,6 @@ dependencies {
     // 공통 모듈
     api(project(":modules:core-common"))
 
-    // 비밀번호 암호화
-    implementation("org.springframework.security:spring-security-crypto")
+    // 비밀번호 암호화 (PasswordEncoder가 공개 API에 노출됨)
+    api("org.springframework.security:spring-security-crypto")
 }
@@ -3,26 +3,25 @@ package org.plate.vo.password;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * 해시된 비밀번호 Value Object
  * prj-core의 HashedPassword와 동일
+ *
+ * 해싱 방식은 호출자가 전달하는 PasswordEncoder(애플리케이션 공용 빈)를 따른다
  */
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class HashedPassword {
 
-    private static final PasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder();
-
     private final String value;
 
     /**
      * 평문 비밀번호로부터 해시 생성
      */
-    public static HashedPassword fromPlain(PlainPassword plainPassword) {
-        String hashed = PASSWORD_ENCODER.encode(plainPassword.getValue());
+    public static HashedPassword fromPlain(PlainPassword plainPassword, PasswordEncoder passwordEncoder) {
+        String hashed = passwordEncoder.encode(plainPassword.getValue());
         return new HashedPassword(hashed);
     }
 
@@ -36,18 +35,26 @@ public class HashedPassword {
     /**
      * 평문 비밀번호와 비교
      *
-     * @param plainPassword 비교할 평문 비밀번호
+     * @param plainPassword   비교할 평문 비밀번호
+     * @param passwordEncoder 비교에 사용할 인코더
      * @return 일치 여부
      */
-    public boolean matches(PlainPassword plainPassword) {
-        return PASSWORD_ENCODER.matches(plainPassword.getValue(), this.value);
+    public boolean matches(PlainPassword plainPassword, PasswordEncoder passwordEncoder) {
+        return passwordEncoder.matches(plainPassword.getValue(), this.value);
     }
 
     /**
      * 문자열과 직접 비교 (편의 메서드)
      */
-    public boolean matches(String rawPassword) {
-        return PASSWORD_ENCODER.matches(rawPassword, this.value);
+    public boolean matches(String rawPassword, PasswordEncoder passwordEncoder) {
+        return passwordEncoder.matches(rawPassword, this.value);
+    }
+
+    /**
+     * 현재 인코더 설정(알고리즘, cost)과 다른 해시인지 확인
+     */
+    public boolean needsUpgrade(PasswordEncoder passwordEncoder) {
+        return passwordEncoder.upgradeEncoding(this.value);
     }
 
     @Override
@@ -3,6 +3,7 @@ package org.plate.vo.password;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * 평문 비밀번호 Value Object
@@ -41,8 +42,8 @@ public class PlainPassword {
     /**
      * 해시된 비밀번호로 변환
      */
-    public HashedPassword toHashed() {
-        return HashedPassword.fromPlain(this);
+    public HashedPassword toHashed(PasswordEncoder passwordEncoder) {
+        return HashedPassword.fromPlain(this, passwordEncoder);
     }
 
     @Override